@@ -0,0 +1,141 @@
+package notfound.ballog.common.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import notfound.ballog.domain.auth.dto.AuthInfo;
+import notfound.ballog.domain.auth.repository.AuthRepository;
+import notfound.ballog.domain.auth.service.AuthCacheService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 한 번 통과하는 비용 (DB/Redis 없이 계정 정보 캐시가 채워진 상태)
+ * - newParserTwice: 변경 전처럼 요청마다 파서를 새로 만들고 두 번 파싱
+ * - sharedParser: 재사용 파서로 한 번 파싱 (서명 검증 포함)
+ * - verifiedToken: 서명 검증 캐시 적중
+ * - filter: JwtAuthenticationFilter.doFilter 전체
+ * - rejected: 서명이 틀린 토큰 요청을 에러 응답으로 돌려보내는 경로
+ * - ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private String accessToken;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletRequest forgedRequest;
+
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        AuthInfo authInfo = new AuthInfo(1, UUID.randomUUID(), true);
+
+        // findAuthInfoByAuthId만 쓰므로 나머지 메서드는 호출되면 실패
+        AuthRepository authRepository = (AuthRepository) Proxy.newProxyInstance(
+                AuthRepository.class.getClassLoader(),
+                new Class<?>[]{AuthRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAuthInfoByAuthId")) {
+                        return Optional.of(authInfo);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        jwtTokenProvider = new JwtTokenProvider(new AuthCacheService(authRepository, null, null, 10_000, 300));
+        setField("secret", Base64.getEncoder().encodeToString(new byte[32]));
+        setField("accessExpireMs", TimeUnit.HOURS.toMillis(1));
+        setField("verifiedCacheMaxSize", 10_000L);
+        setField("verifiedCacheTtlSeconds", 60L);
+        jwtTokenProvider.init();
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                null, null, authInfo.getAuthorities().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .toList());
+        authentication.setDetails(authInfo);
+        accessToken = jwtTokenProvider.generateToken(authentication).getAccessToken();
+
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, new ObjectMapper());
+        request = authorizedRequest(accessToken);
+        forgedRequest = authorizedRequest(accessToken.substring(0, accessToken.length() - 2) + "AA");
+        response = new MockHttpServletResponse();
+    }
+
+    private static MockHttpServletRequest authorizedRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/users/me");
+        request.setServletPath("/v1/users/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenProvider, value);
+    }
+
+    @Benchmark
+    public void newParserTwice(Blackhole blackhole) {
+        for (int i = 0; i < 2; i++) {
+            blackhole.consume(Jwts.parserBuilder()
+                    .setSigningKey(jwtTokenProvider.getSigningKey())
+                    .build()
+                    .parseClaimsJws(accessToken)
+                    .getBody());
+        }
+    }
+
+    @Benchmark
+    public Object sharedParser() {
+        return jwtTokenProvider.getJwtParser().parseClaimsJws(accessToken).getBody();
+    }
+
+    @Benchmark
+    public Object verifiedToken() {
+        return jwtTokenProvider.parseToken(accessToken);
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        jwtAuthenticationFilter.doFilter(request, response, NOOP_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public Object rejected() throws ServletException, IOException {
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+        jwtAuthenticationFilter.doFilter(forgedRequest, rejectedResponse, NOOP_CHAIN);
+        return rejectedResponse.getContentLength();
+    }
+
+}
@@ -0,0 +1,133 @@
+package notfound.ballog.domain.video.detector;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하이라이트 추출 엔진 처리량 (초당 처리한 오디오 분 수)
+ * - audioMinutes 카운터가 "분/초"로 출력됨
+ * - ./gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoudnessHighlightDetectorBenchmark {
+
+    // 쿼터 영상 하나 길이
+    private static final int AUDIO_MINUTES = 10;
+
+    @Param({"16000", "44100"})
+    private int sampleRate;
+
+    private byte[] wav;
+
+    private double[] loudness;
+
+    private LoudnessHighlightDetector detector;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        public double audioMinutes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        detector = new LoudnessHighlightDetector("ffmpeg", 300_000);
+        wav = syntheticMatchAudio(sampleRate, AUDIO_MINUTES * 60);
+        try (PcmStream pcm = WavDecoder.open(new ByteArrayInputStream(wav))) {
+            loudness = LoudnessHighlightDetector.frameLoudness(pcm);
+        }
+    }
+
+    /** WAV 디코딩부터 하이라이트 구간 계산까지 전체 */
+    @Benchmark
+    public void detectWav(Throughput throughput, Blackhole blackhole) throws IOException {
+        try (PcmStream pcm = WavDecoder.open(new ByteArrayInputStream(wav))) {
+            blackhole.consume(detector.detect(pcm));
+        }
+        throughput.audioMinutes += AUDIO_MINUTES;
+    }
+
+    /** 프레임 음량 계산 이후 단계 (z-score, 누적합 이동 평균, 구간 병합) */
+    @Benchmark
+    public void findSegmentsSlidingWindow(Throughput throughput, Blackhole blackhole) {
+        blackhole.consume(LoudnessHighlightDetector.findSegments(loudness, loudness.length));
+        throughput.audioMinutes += AUDIO_MINUTES;
+    }
+
+    /** 비교용: 분석 서버처럼 프레임마다 창 전체를 다시 더하는 컨볼루션 */
+    @Benchmark
+    public void findSegmentsConvolution(Throughput throughput, Blackhole blackhole) {
+        blackhole.consume(convolutionSmoothing(loudness));
+        throughput.audioMinutes += AUDIO_MINUTES;
+    }
+
+    private static double[] convolutionSmoothing(double[] loudness) {
+        int n = loudness.length;
+        double mean = 0;
+        for (double value : loudness) {
+            mean += value;
+        }
+        mean /= n;
+        double variance = 0;
+        for (double value : loudness) {
+            variance += (value - mean) * (value - mean);
+        }
+        double std = Math.sqrt(variance / n);
+
+        double[] zscore = new double[n];
+        for (int i = 0; i < n; i++) {
+            zscore[i] = (loudness[i] - mean) / std;
+        }
+
+        int window = LoudnessHighlightDetector.SMOOTHING_WINDOW;
+        int before = window / 2;
+        double[] smoothed = new double[n];
+        for (int i = 0; i < n; i++) {
+            double sum = 0;
+            for (int j = i - before; j < i - before + window; j++) {
+                if (j >= 0 && j < n) {
+                    sum += zscore[j];
+                }
+            }
+            smoothed[i] = sum / window;
+        }
+        return smoothed;
+    }
+
+    // 잔잔한 배경음에 함성 구간이 1분마다 섞인 16비트 모노 WAV
+    private static byte[] syntheticMatchAudio(int sampleRate, int seconds) {
+        Random random = new Random(42);
+        int samples = sampleRate * seconds;
+        ByteBuffer pcm = ByteBuffer.allocate(samples * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < samples; i++) {
+            double t = (double) i / sampleRate;
+            double amplitude = t % 60 < 5 ? 0.6 : 0.05;
+            pcm.putShort((short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, random.nextGaussian() * amplitude * Short.MAX_VALUE)));
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes()).putInt(36 + samples * 2).put("WAVE".getBytes())
+                .put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) 1)
+                .putInt(sampleRate).putInt(sampleRate * 2).putShort((short) 2).putShort((short) 16)
+                .put("data".getBytes()).putInt(samples * 2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(44 + samples * 2);
+        out.writeBytes(header.array());
+        out.writeBytes(pcm.array());
+        return out.toByteArray();
+    }
+
+}
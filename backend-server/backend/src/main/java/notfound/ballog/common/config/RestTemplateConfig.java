@@ -1,14 +1,28 @@
 package notfound.ballog.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
-    
+
+    @Value("${openai.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${openai.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+
+    // OpenAI 호출용 (응답이 안 오면 요청 스레드가 무한정 묶이지 않도록 timeout 설정)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
     }
-}
\ No newline at end of file
+}
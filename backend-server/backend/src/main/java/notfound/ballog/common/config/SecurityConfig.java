@@ -50,7 +50,7 @@ public class SecurityConfig {
                     m -> m.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             // 필터 적용 시킬 url과 아닌 url 구분(초기엔 다 허용)
             .authorizeHttpRequests(authorize -> authorize
-                .dispatcherTypeMatchers(DispatcherType.ERROR, DispatcherType.FORWARD).permitAll()
+                .dispatcherTypeMatchers(DispatcherType.ERROR, DispatcherType.FORWARD, DispatcherType.ASYNC).permitAll()
                 // 로그인 없이 허용할 url
                 .requestMatchers(
                         "/v1/auth/signup",
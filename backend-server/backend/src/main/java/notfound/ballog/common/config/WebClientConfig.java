@@ -1,16 +1,65 @@
 package notfound.ballog.common.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
+
+    // 영상 분석 서버 전용 커넥션 풀 (다른 WebClient와 풀을 나눠서 분석 서버가 느려도 영향이 번지지 않게 함)
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
+    public WebClient webClient(WebClient.Builder builder,
+                               @Value("${video-service.base-url:http://video:8000}") String baseUrl,
+                               @Value("${video-service.max-connections:20}") int maxConnections,
+                               @Value("${video-service.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+                               @Value("${video-service.connect-timeout-ms:3000}") int connectTimeoutMs,
+                               @Value("${video-service.response-timeout-ms:300000}") long responseTimeoutMs) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("video-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
         return builder
 //                .baseUrl("http://localhost:8000")
-                .baseUrl("http://video:8000")
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    // OpenAI 스트리밍 호출용 (영상 분석 서버와 커넥션 풀 분리, 응답 조각 사이 간격이 read timeout을 넘으면 실패)
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder builder,
+                                     @Value("${openai.max-connections:50}") int maxConnections,
+                                     @Value("${openai.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                     @Value("${openai.read-timeout-ms:60000}") long readTimeoutMs) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 }
@@ -1,11 +1,11 @@
 package notfound.ballog.common.jwt;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import notfound.ballog.common.response.BaseResponse;
 import notfound.ballog.common.response.BaseResponseStatus;
 import notfound.ballog.exception.ValidationException;
@@ -16,13 +16,60 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
+    // 인증 없이 허용할 경로 (정확히 일치)
+    private static final Set<String> PUBLIC_PATHS = Set.of(
+            "/v1/auth/signup",          // 회원가입
+            "/v1/auth/login",           // 로그인
+            "/v1/auth/send-email",      // 이메일 인증코드 전송
+            "/v1/auth/verify-email",    // 이메일 인증코드 확인
+            "/v1/auth/check-email",     // 이메일 중복 확인
+            "/swagger-ui.html"          // swagger
+    );
+
+    // 인증 없이 허용할 경로 (접두사)
+    private static final String[] PUBLIC_PATH_PREFIXES = {
+            "/swagger-ui",              // swagger
+            "/v2/api-docs",             // swagger
+            "/v3/api-docs"              // swagger
+    };
+
     private final JwtTokenProvider jwtTokenProvider;
 
+    // 상태별 에러 응답 body (시작할 때 한 번만 직렬화)
+    private final Map<BaseResponseStatus, byte[]> errorBodies = new EnumMap<>(BaseResponseStatus.class);
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, ObjectMapper objectMapper) {
+        this.jwtTokenProvider = jwtTokenProvider;
+
+        try {
+            for (BaseResponseStatus status : BaseResponseStatus.values()) {
+                errorBodies.put(status, objectMapper.writeValueAsBytes(BaseResponse.error(status)));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 직렬화 실패", e);
+        }
+    }
+
+    /** 인증 없이 허용할 경로인지 확인 */
+    private static boolean isPublicPath(String path) {
+        if (PUBLIC_PATHS.contains(path)) {
+            return true;
+        }
+        for (String prefix : PUBLIC_PATH_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /** Header에서 토큰 추출 */
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
@@ -40,12 +87,11 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         httpResponse.setContentType("application/json");
         httpResponse.setCharacterEncoding("UTF-8");
 
-        // body에 BaseResponse 담기
-        BaseResponse<Void> body = BaseResponse.error(status);
-
-        String json = new ObjectMapper().writeValueAsString(body);
+        // 미리 직렬화해둔 BaseResponse를 그대로 씀
+        byte[] body = errorBodies.get(status);
 
-        httpResponse.getWriter().write(json);
+        httpResponse.setContentLength(body.length);
+        httpResponse.getOutputStream().write(body);
     }
 
     /** 모든 요청에 실행되는 필터 */
@@ -58,21 +104,11 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        // 2. 요청된 URI 경로와 Http 메서드 추출
+        // 2. 요청된 URI 경로 추출
         String path = httpRequest.getServletPath();
-        String method = httpRequest.getMethod();
 
         // 3. 인증 없이 허용할 경로 목록
-        if ((path.equals("/v1/auth/signup")) ||             // 회원가입
-                path.equals("/v1/auth/login") ||            // 로그인
-                path.equals("/v1/auth/send-email") ||       // 이메일 인증코드 전송
-                path.equals("/v1/auth/verify-email") ||     // 이메일 인증코드 확인
-                path.equals("/v1/auth/check-email") ||      // 이메일 중복 확인
-                path.equals(("/swagger-ui.html")) ||        // swagger
-                path.startsWith("/swagger-ui") ||           // swagger
-                path.startsWith("/v2/api-docs") ||          // swagger
-                path.startsWith("/v3/api-docs")             // swagger
-        ) {
+        if (isPublicPath(path)) {
             // 위 목록에 속하면 다음 필터 실행
             chain.doFilter(request, response);
             return;
@@ -82,11 +118,11 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
             // 4. 요청 헤더에서 토큰 추출
             String token = resolveToken(httpRequest);
 
-            // 5. 토큰 파싱(=유효성 검사)
-            jwtTokenProvider.validateToken(token);
+            // 5. 토큰 파싱(=유효성 검사), 파싱 결과는 다시 파싱하지 않고 그대로 사용
+            Claims claims = jwtTokenProvider.validateToken(token);
 
             // 6. 토큰이 정상이면 인증 정보 꺼내서 Spring Security Context에 저장 -> Controller에서 인증된 사용자 정보 사용 가능
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
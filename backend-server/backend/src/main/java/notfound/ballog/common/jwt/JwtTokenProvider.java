@@ -1,5 +1,7 @@
 package notfound.ballog.common.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -8,10 +10,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notfound.ballog.common.response.BaseResponseStatus;
+import notfound.ballog.domain.auth.dto.AuthInfo;
 import notfound.ballog.domain.auth.dto.JwtTokenDto;
-import notfound.ballog.domain.auth.repository.AuthRepository;
-import notfound.ballog.domain.auth.service.CustomUserDetails;
-import notfound.ballog.domain.auth.service.CustomUserDetailsService;
+import notfound.ballog.domain.auth.service.AuthCacheService;
 import notfound.ballog.exception.ValidationException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,10 +22,14 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,10 +38,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    private final AuthRepository authRepository;
+    private static final String USER_ID_CLAIM = "uid";
 
     private Key signingKey;
 
+    // 서명 키가 고정이라 한 번 만들어서 재사용 (JwtParser는 스레드 안전)
+    private JwtParser jwtParser;
+
+    // 최근 서명 검증을 통과한 Access 토큰 -> claims (같은 토큰은 만료 전까지 HMAC 재계산 생략)
+    private Cache<String, Claims> verifiedTokens;
+
+    // 권한 문자열("ROLE_USER" 등) -> 권한 목록 (서명된 토큰에 들어있는 값만 들어오므로 종류가 몇 개 안 됨)
+    private final Map<String, List<GrantedAuthority>> parsedAuthorities = new ConcurrentHashMap<>();
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -46,7 +60,13 @@ public class JwtTokenProvider {
 //    @Value("${jwt.refresh-expire-ms}")        // 리프레쉬 토큰 만료 없음
 //    private Long refreshExpireMs;
 
-    private final CustomUserDetailsService customUserDetailsService;
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    @Value("${jwt.verified-cache.ttl-seconds:60}")
+    private long verifiedCacheTtlSeconds;
+
+    private final AuthCacheService authCacheService;
 
     /** 키 생성 */
     @PostConstruct
@@ -55,16 +75,26 @@ public class JwtTokenProvider {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
 
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(verifiedCacheTtlSeconds))
+                .build();
     }
 
     /** JWT 토큰 생성 */
     public JwtTokenDto generateToken(Authentication authentication) {
-        CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getDetails();
+        AuthInfo authInfo = (AuthInfo) authentication.getDetails();
 
-        // 토큰 subject에 담을 authId
-        Integer authId = customUserDetails.getAuthId();
+        // 토큰 subject에 담을 authId, 요청마다 userId를 조회하지 않도록 userId도 claim에 담음
+        Integer authId = authInfo.getAuthId();
+        String userId = String.valueOf(authInfo.getUserId());
 
-        // CustomUserDetails에서 권한 리스트 추출 -> 문자열로 변환
+        // Authentication에서 권한 리스트 추출 -> 문자열로 변환
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
@@ -76,12 +106,14 @@ public class JwtTokenProvider {
                 .setExpiration(new Date((now + accessExpireMs)))    // Access 토큰 만료 시간 설정
                 .signWith(signingKey, SignatureAlgorithm.HS256)     // HS256 알고리즘 서명
                 .claim("auth", authorities)
+                .claim(USER_ID_CLAIM, userId)
                 .claim("type", "ACCESS")
                 .compact();
 
         String refreshToken = Jwts.builder()
                 .setSubject(String.valueOf(authId))
                 .signWith(signingKey, SignatureAlgorithm.HS256)
+                .claim(USER_ID_CLAIM, userId)
                 .claim("type", "REFRESH")
                 .compact();
 
@@ -94,24 +126,39 @@ public class JwtTokenProvider {
 
     /** 토큰 파싱(유효성 검사 포함) */
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        // 키 기준은 토큰 전체 (서명만 키로 쓰면 다른 payload에 서명을 붙인 토큰도 통과함)
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.getExpiration().getTime() > System.currentTimeMillis()) {
+                return cached;
+            }
+            verifiedTokens.invalidate(token);
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        // 만료 시간이 없는 Refresh 토큰은 재발급 때만 쓰이므로 캐시하지 않음
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
     }
 
-    /** 토큰 유효성 검사 */
-    public void validateToken(String token) {
+    /** 토큰 유효성 검사 후 claims 반환 (한 요청에서 파싱은 한 번만 하도록 getAuthentication(Claims)에 넘겨서 사용) */
+    public Claims validateToken(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new ValidationException(BaseResponseStatus.INVALID_TOKEN);
+        }
+
         try {
-            parseToken(token);
+            return parseToken(token);
         } catch (ExpiredJwtException e) {
             Claims claims = e.getClaims();
-            String type = claims.get("type").toString();
+            Object type = claims.get("type");
 
             // Refresh 토큰이면 만료 무시
-            if (type.equals("REFRESH")) {
-                return;
+            if ("REFRESH".equals(type)) {
+                return claims;
             }
             // Access 토큰이면 만료 예외 처리
             throw new ValidationException(BaseResponseStatus.EXPIRED_TOKEN);
@@ -128,39 +175,48 @@ public class JwtTokenProvider {
         }
 
         try {
-            // 1. 토큰 파싱(=유효성 검사)
-            Claims claims = parseToken(token);
+            // 토큰 파싱(=유효성 검사)
+            return getAuthentication(parseToken(token));
+        } catch (ExpiredJwtException e) {
+            throw new ValidationException(BaseResponseStatus.EXPIRED_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ValidationException(BaseResponseStatus.INVALID_TOKEN);
+        }
+    }
 
-            // 2. 토큰에서 authId 가져와서 CustomUserDetails 생성
+    /** 검증이 끝난 claims에서 Authentication 추출 */
+    public Authentication getAuthentication(Claims claims) {
+        try {
+            // 1. 토큰에서 authId 가져와서 계정 정보 조회 (로컬 캐시, 탈퇴한 계정이면 예외)
             Integer authId = Integer.parseInt(claims.getSubject());
-            CustomUserDetails customUserDetails = customUserDetailsService.loadUserByAuthId(authId);
+            AuthInfo authInfo = authCacheService.getActiveAuthInfo(authId);
 
-            // 3. Authorities 추출 -> Access 토큰은 claims안에, Refresh 토큰은 userDetails에서 가져오기
+            // 2. Authorities 추출 -> Access 토큰은 claims안에, Refresh 토큰은 계정 정보에서 가져오기
             Object authClaim = claims.get("auth");
-            Collection<? extends GrantedAuthority> authorities;
-                // Access 토큰인 경우
-            if (authClaim != null) {
-                authorities = Arrays.stream(authClaim.toString().split(","))
-                                    .map(SimpleGrantedAuthority::new)
-                                    .collect(Collectors.toList());
-
-            } else {
-                // Refresh 토큰인 경우
-                authorities = customUserDetails.getAuthorities();
+            String authorityNames = authClaim != null
+                    ? authClaim.toString()                              // Access 토큰인 경우
+                    : String.join(",", authInfo.getAuthorities());     // Refresh 토큰인 경우
+            Collection<? extends GrantedAuthority> authorities = parsedAuthorities.computeIfAbsent(authorityNames,
+                    names -> Arrays.stream(names.split(","))
+                            .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                            .toList());
+
+            // 3. SecurityContext에 저장할 Authentication (userId는 계정 정보 기준)
+            //    재가입으로 계정이 새 유저에 연결되면 이전 유저로 발급된 토큰은 uid가 달라서 거부
+            UUID userId = authInfo.getUserId();
+            Object userIdClaim = claims.get(USER_ID_CLAIM);
+            if (userIdClaim != null && !UUID.fromString(userIdClaim.toString()).equals(userId)) {
+                throw new ValidationException(BaseResponseStatus.INVALID_TOKEN);
             }
 
-            // 4. SecurityContext에 저장할 Authentication
-            UUID userId = customUserDetails.getUserId();
-
             UsernamePasswordAuthenticationToken auth =
                     new UsernamePasswordAuthenticationToken(userId, null, authorities);
 
-            auth.setDetails(customUserDetails);
+            auth.setDetails(authInfo);
 
             return auth;
-        } catch (ExpiredJwtException e) {
-            throw new ValidationException(BaseResponseStatus.EXPIRED_TOKEN);
-        } catch (JwtException e) {
+        } catch (IllegalArgumentException e) {
+            // subject/uid 형식 오류 (NumberFormatException 포함)
             throw new ValidationException(BaseResponseStatus.INVALID_TOKEN);
         }
     }
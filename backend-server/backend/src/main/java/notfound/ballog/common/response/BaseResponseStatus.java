@@ -47,6 +47,9 @@ public enum BaseResponseStatus {
     VIDEO_ALREADY_EXIST(false, 4003, "이미 업로드된 영상이 있습니다."),
     HIGHLIGHT_ALREADY_EXIST(false, 4004, "이미 하이라이트를 자동 추출하였습니다."),
     HIGHLIGHT_EXTRACT_FAIL(false, 4005, "하이라이트 추출에 실패했습니다."),
+    HIGHLIGHT_JOB_NOT_FOUND(false, 4006, "해당하는 하이라이트 추출 작업이 존재하지 않습니다."),
+    VIDEO_SERVICE_UNAVAILABLE(false, 4007, "영상 분석 서버가 일시적으로 요청을 받을 수 없습니다."),
+    INVALID_LIKE_CURSOR(false, 4008, "좋아요 목록 커서는 cursorLikeId와 cursorLikedAt을 함께 보내야 합니다."),
 
     // 팀 관련 로직 에러 (5000번대)
     TEAM_NOT_FOUND(false, 5000, "해당하는 팀이 존재하지 않습니다."),
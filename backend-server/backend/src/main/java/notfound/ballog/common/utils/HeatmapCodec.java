@@ -0,0 +1,69 @@
+package notfound.ballog.common.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 16x10 히트맵을 160바이트 고정 길이 배열로 변환하는 코덱
+ * - 행 우선(row-major) 순서로 한 칸당 1바이트(0~255, 부호 없음)
+ * - 범위를 벗어난 값은 0~255로 잘라서 저장
+ */
+public final class HeatmapCodec {
+
+    public static final int ROWS = 16;
+
+    public static final int COLS = 10;
+
+    public static final int SIZE = ROWS * COLS;
+
+    private HeatmapCodec() {
+    }
+
+    /** 요청에 담긴 List<List<Number>> 형태의 히트맵을 바이트 배열로 변환 */
+    public static byte[] encode(Object heatmapObj) {
+        byte[] encoded = new byte[SIZE];
+
+        if (!(heatmapObj instanceof List<?> rows)) {
+            return encoded;
+        }
+
+        for (int i = 0; i < Math.min(rows.size(), ROWS); i++) {
+            if (!(rows.get(i) instanceof List<?> row)) {
+                continue;
+            }
+            for (int j = 0; j < Math.min(row.size(), COLS); j++) {
+                if (row.get(j) instanceof Number value) {
+                    encoded[i * COLS + j] = (byte) Math.max(0, Math.min(255, value.intValue()));
+                }
+            }
+        }
+
+        return encoded;
+    }
+
+    /** (row, col) 위치의 값 조회 */
+    public static int get(byte[] heatmap, int row, int col) {
+        return heatmap[row * COLS + col] & 0xFF;
+    }
+
+    /** 여러 히트맵을 칸 단위로 더할 때 사용하는 누적 배열에 합산 */
+    public static void accumulate(byte[] heatmap, int[] sum) {
+        for (int k = 0; k < SIZE; k++) {
+            sum[k] += heatmap[k] & 0xFF;
+        }
+    }
+
+    /** 응답/프롬프트용 List<List<Integer>> 형태로 변환 */
+    public static List<List<Integer>> toList(byte[] heatmap) {
+        List<List<Integer>> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            List<Integer> row = new ArrayList<>(COLS);
+            for (int j = 0; j < COLS; j++) {
+                row.add(get(heatmap, i, j));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+}
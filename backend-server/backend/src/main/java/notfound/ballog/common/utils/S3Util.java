@@ -3,13 +3,23 @@ package notfound.ballog.common.utils;
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
 import lombok.RequiredArgsConstructor;
 import notfound.ballog.common.response.BaseResponseStatus;
 import notfound.ballog.exception.InternalServerException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -49,6 +59,67 @@ public class S3Util {
         }
     }
 
+    // 다운로드용 presignedUrl 생성 (영상 분석 서버가 S3에서 직접 내려받을 때 사용)
+    public String generatePresignedGetUrl(String objectKey) {
+        try {
+            Instant expirationInstant = Instant.now().plusSeconds(expirationMinutes * 60L);
+            Date expiration = Date.from(expirationInstant);
+
+            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, objectKey)
+                    .withMethod(HttpMethod.GET)
+                    .withExpiration(expiration);
+
+            return amazonS3.generatePresignedUrl(request).toString();
+
+        } catch (Exception e) {
+            throw new InternalServerException(BaseResponseStatus.URL_GENERATION_FAIL);
+        }
+    }
+
+    // 서버에 저장된 파일을 S3에 업로드 (SDK가 파일에서 나눠 읽어서 전송)
+    public void upload(String objectKey, Path file, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        amazonS3.putObject(new PutObjectRequest(bucket, objectKey, file.toFile()).withMetadata(metadata));
+    }
+
+    // 메모리에 있는 작은 파일(선수 이미지 등)을 S3에 업로드
+    public void upload(String objectKey, byte[] content, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(content.length);
+        amazonS3.putObject(new PutObjectRequest(bucket, objectKey, new ByteArrayInputStream(content), metadata));
+    }
+
+    // objectKey의 객체 URL (클라이언트에 그대로 내려주는 주소)
+    public String getObjectUrl(String objectKey) {
+        return amazonS3.getUrl(bucket, objectKey).toString();
+    }
+
+    // S3 객체를 파일로 내려받음 (스트림으로 복사하므로 크기와 무관하게 메모리 사용량 일정)
+    public void download(String objectKey, Path target) throws IOException {
+        try (S3Object object = amazonS3.getObject(bucket, objectKey);
+             InputStream in = object.getObjectContent()) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public void deleteObject(String objectKey) {
+        amazonS3.deleteObject(bucket, objectKey);
+    }
+
+    // 저장된 objectUrl에서 objectKey 추출 (path-style 주소면 버킷 이름 제거)
+    public String extractObjectKey(String objectUrl) {
+        String path = URI.create(objectUrl).getPath();
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.startsWith(bucket + "/")) {
+            path = path.substring(bucket.length() + 1);
+        }
+        return path;
+    }
+
     // objectKey 조합
     public String generateObjectKey(String originalFileName, String domain) {
         // 1. 확장자 추출
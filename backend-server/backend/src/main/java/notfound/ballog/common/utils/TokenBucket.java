@@ -0,0 +1,57 @@
+package notfound.ballog.common.utils;
+
+import java.time.Duration;
+
+/**
+ * 분당 한도를 지키기 위한 토큰 버킷 (스레드 안전)
+ * - 1분에 capacity만큼 일정한 속도로 채워지고, 최대 capacity까지만 쌓임
+ * - 한 번에 capacity보다 많이 요청하면 capacity만큼만 기다림 (요청이 영원히 막히지 않도록)
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_MINUTE = Duration.ofMinutes(1).toNanos();
+
+    private final long capacity;
+
+    private final double refillPerNano;
+
+    private double available;
+
+    private long lastRefillAt;
+
+    public TokenBucket(long capacityPerMinute) {
+        this.capacity = Math.max(1, capacityPerMinute);
+        this.refillPerNano = (double) this.capacity / NANOS_PER_MINUTE;
+        this.available = this.capacity;
+        this.lastRefillAt = System.nanoTime();
+    }
+
+    /** permits만큼 꺼낼 수 있을 때까지 기다렸다가 꺼냄, maxWait 안에 못 꺼내면 false */
+    public synchronized boolean acquire(long permits, Duration maxWait) throws InterruptedException {
+        double needed = Math.min(permits, capacity);
+        long deadline = System.nanoTime() + maxWait.toNanos();
+
+        while (true) {
+            refill();
+            if (available >= needed) {
+                available -= needed;
+                return true;
+            }
+
+            long waitNanos = (long) Math.ceil((needed - available) / refillPerNano);
+            long remaining = deadline - System.nanoTime();
+            if (waitNanos > remaining) {
+                return false;
+            }
+            // 기다리는 동안 다른 스레드도 acquire할 수 있도록 모니터를 놓고 대기
+            wait(Math.max(1, waitNanos / 1_000_000));
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefillAt) * refillPerNano);
+        lastRefillAt = now;
+    }
+
+}
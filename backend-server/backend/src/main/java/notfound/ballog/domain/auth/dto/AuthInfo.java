@@ -0,0 +1,36 @@
+package notfound.ballog.domain.auth.dto;
+
+import lombok.Getter;
+import notfound.ballog.domain.auth.entity.Auth;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 요청 인증에 필요한 계정 정보 (AuthCacheService에 캐시)
+ */
+@Getter
+public class AuthInfo {
+
+    // 추후 권한 추가되면 설정
+    private static final List<String> DEFAULT_AUTHORITIES = List.of("ROLE_USER");
+
+    private final Integer authId;
+
+    private final UUID userId;
+
+    private final boolean active;
+
+    private final List<String> authorities;
+
+    public AuthInfo(Integer authId, UUID userId, Boolean active) {
+        this.authId = authId;
+        this.userId = userId;
+        this.active = Boolean.TRUE.equals(active);
+        this.authorities = DEFAULT_AUTHORITIES;
+    }
+
+    public static AuthInfo of(Auth auth) {
+        return new AuthInfo(auth.getAuthId(), auth.getUser().getUserId(), auth.getIsActive());
+    }
+}
@@ -1,7 +1,9 @@
 package notfound.ballog.domain.auth.repository;
 
+import notfound.ballog.domain.auth.dto.AuthInfo;
 import notfound.ballog.domain.auth.entity.Auth;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +18,9 @@ public interface AuthRepository extends JpaRepository<Auth, Integer> {
     Optional<Auth> findByAuthIdAndIsActiveTrue(Integer authId);
 
     Optional<Auth> findByUser_UserIdAndIsActiveTrue(UUID userId);
+
+    /** 인증용 계정 정보만 조회 (User는 FK 값만 읽고 join/지연 로딩 없음) */
+    @Query("select new notfound.ballog.domain.auth.dto.AuthInfo(a.authId, a.user.userId, a.isActive) " +
+            "from Auth a where a.authId = :authId")
+    Optional<AuthInfo> findAuthInfoByAuthId(Integer authId);
 }
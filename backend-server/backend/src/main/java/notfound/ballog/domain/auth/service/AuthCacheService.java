@@ -0,0 +1,105 @@
+package notfound.ballog.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.common.response.BaseResponseStatus;
+import notfound.ballog.domain.auth.dto.AuthInfo;
+import notfound.ballog.domain.auth.repository.AuthRepository;
+import notfound.ballog.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 요청 인증용 계정 정보 캐시 (authId -> userId, 활성 여부, 권한)
+ * - 모든 API 요청마다 하던 Auth/User 조회를 서버별 로컬 캐시(Caffeine)로 대체
+ * - 탈퇴/로그아웃/복구 시 Redis pub/sub으로 모든 서버의 캐시를 지우고, 메시지를 놓쳐도 TTL 이후에는 다시 조회
+ */
+@Slf4j
+@Service
+public class AuthCacheService implements MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "auth:invalidate";
+
+    private final AuthRepository authRepository;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Cache<Integer, AuthInfo> localCache;
+
+    public AuthCacheService(AuthRepository authRepository,
+                            StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            @Value("${auth.cache.max-size:10000}") long maxSize,
+                            @Value("${auth.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.authRepository = authRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /** 활성 계정 정보 조회 (없거나 탈퇴한 계정이면 USER_NOT_FOUND) */
+    public AuthInfo getActiveAuthInfo(Integer authId) {
+        // 탈퇴한 계정도 캐시해서 탈퇴 계정 토큰으로 들어온 요청이 매번 DB를 조회하지 않게 함
+        AuthInfo authInfo = localCache.get(authId, id -> authRepository.findAuthInfoByAuthId(id).orElse(null));
+
+        if (authInfo == null || !authInfo.isActive()) {
+            throw new ValidationException(BaseResponseStatus.USER_NOT_FOUND);
+        }
+        return authInfo;
+    }
+
+    /** 모든 서버의 계정 정보 캐시 삭제 (트랜잭션 안이면 커밋 이후) */
+    public void evict(Integer authId) {
+        Runnable action = () -> {
+            localCache.invalidate(authId);
+            try {
+                redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(authId));
+            } catch (Exception e) {
+                log.warn("계정 캐시 무효화 메시지 발행 실패 - authId: {}, 오류: {}", authId, e.getMessage());
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            localCache.invalidate(Integer.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 계정 캐시 무효화 메시지: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+}
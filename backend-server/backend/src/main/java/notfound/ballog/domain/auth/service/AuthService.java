@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notfound.ballog.common.jwt.JwtTokenProvider;
 import notfound.ballog.common.response.BaseResponseStatus;
+import notfound.ballog.domain.auth.dto.AuthInfo;
 import notfound.ballog.domain.auth.dto.JwtTokenDto;
 import notfound.ballog.domain.auth.entity.Auth;
 import notfound.ballog.domain.auth.repository.AuthRepository;
@@ -41,6 +42,8 @@ public class AuthService {
 
     private final UserService userService;
 
+    private final AuthCacheService authCacheService;
+
     @Transactional
     public void signUp(SignUpRequest request){
         String email = request.getEmail();
@@ -63,6 +66,9 @@ public class AuthService {
                 auth.reactivate(savedUser, email, password);
 
                 authRepository.save(auth);
+
+                // 탈퇴 상태로 캐시된 계정 정보 삭제
+                authCacheService.evict(auth.getAuthId());
             } else {
                 throw new DuplicateDataException(BaseResponseStatus.DUPLICATE_EMAIL);
             }
@@ -97,7 +103,7 @@ public class AuthService {
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(null, null, customUserDetails.getAuthorities());
 
-        authentication.setDetails(customUserDetails);
+        authentication.setDetails(AuthInfo.of(customUserDetails.getAuth()));
 
         JwtTokenDto token = jwtTokenProvider.generateToken(authentication);
 
@@ -122,6 +128,8 @@ public class AuthService {
         auth.changeRefreshToken(null);
 
         authRepository.save(auth);
+
+        authCacheService.evict(auth.getAuthId());
     }
 
     @Transactional
@@ -171,5 +179,8 @@ public class AuthService {
         auth.changeRefreshToken(null);
 
         authRepository.save(auth);
+
+        // 다른 서버에 캐시된 계정 정보도 커밋 이후 삭제 -> 탈퇴한 계정의 Access 토큰은 바로 거부됨
+        authCacheService.evict(auth.getAuthId());
     }
 }
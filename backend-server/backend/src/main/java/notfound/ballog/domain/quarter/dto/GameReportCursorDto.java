@@ -0,0 +1,20 @@
+package notfound.ballog.domain.quarter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** 등록 순서(createdAt, reportId)대로 경기 기록을 훑을 때 쓰는 키셋 커서 */
+@Getter
+@AllArgsConstructor
+public class GameReportCursorDto {
+
+    private LocalDateTime createdAt;
+
+    private Integer reportId;
+
+    private UUID userId;
+
+}
@@ -0,0 +1,74 @@
+package notfound.ballog.domain.quarter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import notfound.ballog.common.utils.HeatmapCodec;
+import notfound.ballog.domain.quarter.entity.GameReport;
+
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** jsonb 없이 정형 컬럼만 조회하는 경기 기록 프로젝션 */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameReportStatDto {
+
+    private Integer reportId;
+
+    private String matchSide;
+
+    private Double distance;
+
+    private Double avgSpeed;
+
+    private Double maxSpeed;
+
+    private Integer sprint;
+
+    private Integer avgHeartRate;
+
+    private Integer maxHeartRate;
+
+    private LocalTime startTime;
+
+    private LocalTime endTime;
+
+    private byte[] heatmap;
+
+    public static GameReportStatDto of(GameReport gameReport) {
+        return GameReportStatDto.builder()
+                .reportId(gameReport.getReportId())
+                .matchSide(gameReport.getMatchSide())
+                .distance(gameReport.getDistance())
+                .avgSpeed(gameReport.getAvgSpeed())
+                .maxSpeed(gameReport.getMaxSpeed())
+                .sprint(gameReport.getSprint())
+                .avgHeartRate(gameReport.getAvgHeartRate())
+                .maxHeartRate(gameReport.getMaxHeartRate())
+                .startTime(gameReport.getStartTime())
+                .endTime(gameReport.getEndTime())
+                .heatmap(gameReport.getHeatmap())
+                .build();
+    }
+
+    /** 경기 데이터 원본 형식 (v1 AI 프롬프트 형식, 프롬프트 크기 비교에 사용) */
+    public Map<String, Object> toPromptData() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("sprint", sprint);
+        data.put("startTime", startTime != null ? startTime.toString() : null);
+        data.put("endTime", endTime != null ? endTime.toString() : null);
+        data.put("heatmap", HeatmapCodec.toList(heatmap));
+        data.put("avgSpeed", avgSpeed);
+        data.put("distance", distance);
+        data.put("maxSpeed", maxSpeed);
+        data.put("avgHeartRate", avgHeartRate);
+        data.put("maxHeartRate", maxHeartRate);
+        return data;
+    }
+
+}
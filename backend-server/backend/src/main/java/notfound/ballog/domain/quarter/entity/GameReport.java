@@ -2,14 +2,20 @@ package notfound.ballog.domain.quarter.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import notfound.ballog.common.utils.HeatmapCodec;
+import notfound.ballog.domain.quarter.dto.ReportData;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.UUID;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_game_report_user_quarter", columnNames = {"user_id", "quarter_id"}))
 @Getter
 @Setter
 @Builder
@@ -33,12 +39,36 @@ public class GameReport {
 
     private Integer quarterId;
 
+    // 원본 요청 데이터 (경기 상세 조회 응답용)
     @Column(columnDefinition = "jsonb")
     @JdbcTypeCode(SqlTypes.JSON)
     private Map<String, Object> reportData;
 
     private String matchSide;
 
+    // 통계/능력치 계산용 정형 컬럼
+    private Double distance;
+
+    private Double avgSpeed;
+
+    private Double maxSpeed;
+
+    private Integer sprint;
+
+    private Integer avgHeartRate;
+
+    private Integer maxHeartRate;
+
+    @Column(columnDefinition = "TIME")
+    private LocalTime startTime;
+
+    @Column(columnDefinition = "TIME")
+    private LocalTime endTime;
+
+    // 16x10 히트맵 (HeatmapCodec, 160 bytes)
+    @Column(columnDefinition = "bytea")
+    private byte[] heatmap;
+
     private LocalDateTime createdAt;
 
     public GameReport(UUID userId, Integer quarterId, Map<String, Object> reportData, String matchSide) {
@@ -49,4 +79,43 @@ public class GameReport {
         this.createdAt = LocalDateTime.now();
     }
 
+    /** 요청 데이터를 한 번만 파싱해서 정형 컬럼까지 채운 GameReport 생성 */
+    public static GameReport of(UUID userId, Integer quarterId, ReportData req) {
+        Map<String, Object> data = req.getGameReportData();
+
+        GameReport gameReport = new GameReport(userId, quarterId, data, req.getGameSide());
+
+        gameReport.distance = toDouble(data.get("distance"));
+        gameReport.avgSpeed = toDouble(data.get("avgSpeed"));
+        gameReport.maxSpeed = toDouble(data.get("maxSpeed"));
+        gameReport.sprint = toInteger(data.get("sprint"));
+        gameReport.avgHeartRate = toInteger(data.get("avgHeartRate"));
+        gameReport.maxHeartRate = toInteger(data.get("maxHeartRate"));
+        gameReport.startTime = toTime(data.get("startTime"));
+        gameReport.endTime = toTime(data.get("endTime"));
+        gameReport.heatmap = HeatmapCodec.encode(data.get("heatmap"));
+
+        return gameReport;
+    }
+
+    private static Double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0.0;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    // "HH:mm" 형식, 파싱 실패 시 null
+    private static LocalTime toTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(value.toString()).truncatedTo(ChronoUnit.MINUTES);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
 }
@@ -16,7 +16,7 @@ public class Quarter {
     @SequenceGenerator(
             name = "quarter_sequence",
             sequenceName = "quarter_sequence",
-            allocationSize = 1
+            allocationSize = 50
     )
     @GeneratedValue(
             strategy = GenerationType.SEQUENCE,
@@ -0,0 +1,71 @@
+package notfound.ballog.domain.quarter.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 경기 기록 등록 이벤트 (outbox)
+ * - 경기 기록 저장과 같은 트랜잭션에서 생성
+ * - AbilityRecalculationScheduler가 주기적으로 꺼내 선수 카드/팀 카드 능력치 재계산
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_report_ingested_event_status", columnList = "status, event_id"),
+        @Index(name = "idx_report_ingested_event_user", columnList = "user_id, event_id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportIngestedEvent {
+
+    public static final String PENDING = "PENDING";
+
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @SequenceGenerator(
+            name = "report_ingested_event_sequence",
+            sequenceName = "report_ingested_event_sequence",
+            allocationSize = 50
+    )
+    @GeneratedValue(
+            strategy = GenerationType.SEQUENCE,
+            generator = "report_ingested_event_sequence"
+    )
+    private Long eventId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    // 이번 요청에서 새로 저장된 경기 기록 ID
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false, columnDefinition = "integer[]")
+    private Integer[] reportIds;
+
+    @Column(nullable = false)
+    private String status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static ReportIngestedEvent of(UUID userId, List<Integer> reportIds) {
+        return ReportIngestedEvent.builder()
+                .userId(userId)
+                .reportIds(reportIds.toArray(Integer[]::new))
+                .status(PENDING)
+                .attempts(0)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -1,16 +1,47 @@
 package notfound.ballog.domain.quarter.repository;
 
+import notfound.ballog.domain.quarter.dto.GameReportCursorDto;
+import notfound.ballog.domain.quarter.dto.GameReportStatDto;
 import notfound.ballog.domain.quarter.entity.GameReport;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface GameReportRepository extends JpaRepository<GameReport, Integer> {
+public interface GameReportRepository extends JpaRepository<GameReport, Integer>, GameReportRepositoryCustom {
 
-    /** 유저 ID로 조회 후 가장 최근 데이터 중 최대 5개 데이터 조회 */
-    List<GameReport> findTop5ByUserIdOrderByCreatedAtDesc(UUID userId);
+    /** 유저 ID로 조회 후 가장 최근 데이터 중 pageable 크기만큼 정형 컬럼만 조회 (jsonb 역직렬화 없음) */
+    @Query("select new notfound.ballog.domain.quarter.dto.GameReportStatDto(" +
+            "g.reportId, g.matchSide, g.distance, g.avgSpeed, g.maxSpeed, g.sprint, " +
+            "g.avgHeartRate, g.maxHeartRate, g.startTime, g.endTime, g.heatmap) " +
+            "from GameReport g where g.userId = :userId order by g.createdAt desc")
+    List<GameReportStatDto> findRecentStatsByUserId(UUID userId, Pageable pageable);
 
-    boolean existsByUserIdAndQuarterId(UUID userId, Integer quarterId);
+    /** 유저의 가장 최근 경기 기록 ID만 pageable 크기만큼 조회 (최신순) */
+    @Query("select g.reportId from GameReport g where g.userId = :userId order by g.createdAt desc")
+    List<Integer> findRecentReportIdsByUserId(UUID userId, Pageable pageable);
+
+    /** 경기 기록 ID로 정형 컬럼만 조회 */
+    @Query("select new notfound.ballog.domain.quarter.dto.GameReportStatDto(" +
+            "g.reportId, g.matchSide, g.distance, g.avgSpeed, g.maxSpeed, g.sprint, " +
+            "g.avgHeartRate, g.maxHeartRate, g.startTime, g.endTime, g.heatmap) " +
+            "from GameReport g where g.reportId in :reportIds")
+    List<GameReportStatDto> findStatsByReportIdIn(Collection<Integer> reportIds);
+
+    /** (createdAt, reportId) 커서 이후 until 이전에 등록된 경기 기록을 등록 순서대로 조회 (키셋 페이징) */
+    @Query("select new notfound.ballog.domain.quarter.dto.GameReportCursorDto(g.createdAt, g.reportId, g.userId) " +
+            "from GameReport g " +
+            "where (g.createdAt > :createdAt or (g.createdAt = :createdAt and g.reportId > :reportId)) " +
+            "and g.createdAt < :until " +
+            "order by g.createdAt, g.reportId")
+    List<GameReportCursorDto> findReportsAfter(LocalDateTime createdAt, Integer reportId, LocalDateTime until, Pageable pageable);
+
+    /** 요청한 쿼터들 중 이미 경기 기록이 있는 쿼터 ID를 한 번에 조회 */
+    @Query("select g.quarterId from GameReport g where g.userId = :userId and g.quarterId in :quarterIds")
+    List<Integer> findQuarterIdsByUserIdAndQuarterIdIn(UUID userId, Collection<Integer> quarterIds);
 
 }
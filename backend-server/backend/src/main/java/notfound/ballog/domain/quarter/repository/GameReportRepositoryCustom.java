@@ -0,0 +1,12 @@
+package notfound.ballog.domain.quarter.repository;
+
+import notfound.ballog.domain.quarter.entity.GameReport;
+
+import java.util.List;
+
+public interface GameReportRepositoryCustom {
+
+    /** (user_id, quarter_id)가 이미 있으면 건너뛰는 일괄 저장, 실제로 저장된 기록만 반환 */
+    List<GameReport> insertAllIgnoringDuplicates(List<GameReport> gameReports);
+
+}
@@ -0,0 +1,120 @@
+package notfound.ballog.domain.quarter.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import notfound.ballog.common.response.BaseResponseStatus;
+import notfound.ballog.domain.quarter.entity.GameReport;
+import notfound.ballog.exception.InternalServerException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class GameReportRepositoryImpl implements GameReportRepositoryCustom {
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval('game_report_sequence') FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO game_report (report_id, user_id, quarter_id, report_data, match_side,
+                                     distance, avg_speed, max_speed, sprint, avg_heart_rate, max_heart_rate,
+                                     start_time, end_time, heatmap, created_at)
+            VALUES %s
+            ON CONFLICT (user_id, quarter_id) DO NOTHING
+            RETURNING report_id
+            """;
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?::jsonb, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int COLUMN_COUNT = 15;
+
+    // 한 문장의 바인딩 변수 수가 PostgreSQL 한도(65535)를 넘지 않도록 나눠서 insert
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public List<GameReport> insertAllIgnoringDuplicates(List<GameReport> gameReports) {
+        if (gameReports.isEmpty()) {
+            return List.of();
+        }
+
+        // 시퀀스 값은 한 번의 쿼리로 필요한 개수만큼 발급
+        List<Integer> reportIds = jdbcTemplate.queryForList(NEXT_IDS_SQL, Integer.class, gameReports.size());
+        for (int i = 0; i < gameReports.size(); i++) {
+            gameReports.get(i).setReportId(reportIds.get(i));
+        }
+
+        List<String> reportDataJsons = new ArrayList<>(gameReports.size());
+        for (GameReport gameReport : gameReports) {
+            reportDataJsons.add(toJson(gameReport));
+        }
+
+        // 실제로 insert된 행만 RETURNING으로 돌려받음 (ON CONFLICT로 건너뛴 행은 나오지 않음)
+        // 배치 update count는 reWriteBatchedInserts에서 건너뛴 행도 SUCCESS_NO_INFO로 나오므로 사용하지 않음
+        Set<Integer> insertedIds = new HashSet<>();
+        for (int from = 0; from < gameReports.size(); from += ROWS_PER_STATEMENT) {
+            int to = Math.min(from + ROWS_PER_STATEMENT, gameReports.size());
+            insertedIds.addAll(insertChunk(gameReports.subList(from, to), reportDataJsons.subList(from, to)));
+        }
+
+        List<GameReport> insertedReports = new ArrayList<>(insertedIds.size());
+        for (GameReport gameReport : gameReports) {
+            if (insertedIds.contains(gameReport.getReportId())) {
+                insertedReports.add(gameReport);
+            }
+        }
+        return insertedReports;
+    }
+
+    private List<Integer> insertChunk(List<GameReport> gameReports, List<String> reportDataJsons) {
+        String sql = INSERT_SQL.formatted(String.join(", ", Collections.nCopies(gameReports.size(), VALUES_ROW)));
+
+        return jdbcTemplate.query(sql, ps -> {
+            for (int i = 0; i < gameReports.size(); i++) {
+                setValues(ps, i * COLUMN_COUNT, gameReports.get(i), reportDataJsons.get(i));
+            }
+        }, (rs, rowNum) -> rs.getInt(1));
+    }
+
+    private static void setValues(PreparedStatement ps, int offset, GameReport gameReport, String reportDataJson)
+            throws SQLException {
+        ps.setInt(offset + 1, gameReport.getReportId());
+        ps.setObject(offset + 2, gameReport.getUserId());
+        ps.setInt(offset + 3, gameReport.getQuarterId());
+        ps.setString(offset + 4, reportDataJson);
+        ps.setString(offset + 5, gameReport.getMatchSide());
+        ps.setObject(offset + 6, gameReport.getDistance(), Types.DOUBLE);
+        ps.setObject(offset + 7, gameReport.getAvgSpeed(), Types.DOUBLE);
+        ps.setObject(offset + 8, gameReport.getMaxSpeed(), Types.DOUBLE);
+        ps.setObject(offset + 9, gameReport.getSprint(), Types.INTEGER);
+        ps.setObject(offset + 10, gameReport.getAvgHeartRate(), Types.INTEGER);
+        ps.setObject(offset + 11, gameReport.getMaxHeartRate(), Types.INTEGER);
+        ps.setObject(offset + 12, gameReport.getStartTime(), Types.TIME);
+        ps.setObject(offset + 13, gameReport.getEndTime(), Types.TIME);
+        ps.setBytes(offset + 14, gameReport.getHeatmap());
+        ps.setTimestamp(offset + 15, Timestamp.valueOf(gameReport.getCreatedAt()));
+    }
+
+    private String toJson(GameReport gameReport) {
+        try {
+            return objectMapper.writeValueAsString(gameReport.getReportData());
+        } catch (JsonProcessingException e) {
+            throw new InternalServerException(BaseResponseStatus.DATABASE_ERROR);
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package notfound.ballog.domain.quarter.repository;
+
+import notfound.ballog.domain.quarter.entity.ReportIngestedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportIngestedEventRepository extends JpaRepository<ReportIngestedEvent, Long> {
+
+    /**
+     * 처리 대기 중인 이벤트를 오래된 순으로 잠그고 조회 (다른 워커가 잠근 행은 건너뜀)
+     * - 유저마다 가장 오래된 대기 이벤트만 가져감 (앞 이벤트가 처리되어 삭제되기 전까지 다음 이벤트는 어느 워커도 가져가지 않음)
+     * - 가중치 반영은 순서에 따라 결과가 달라지므로 한 유저의 이벤트는 여러 워커/서버에서도 업로드 순서대로 하나씩 처리됨
+     */
+    @Query(value = """
+    SELECT e.*
+    FROM report_ingested_event e
+    WHERE e.status = 'PENDING'
+      AND NOT EXISTS (
+          SELECT 1
+          FROM report_ingested_event earlier
+          WHERE earlier.user_id = e.user_id
+            AND earlier.status = 'PENDING'
+            AND earlier.event_id < e.event_id
+      )
+    ORDER BY e.event_id
+    LIMIT :batchSize
+    FOR UPDATE OF e SKIP LOCKED
+    """, nativeQuery = true)
+    List<ReportIngestedEvent> lockPendingEvents(int batchSize);
+
+    /** 처리 대기 중인 이벤트를 오래된 순으로 잠그지 않고 조회 (묶음 처리 실패 시 하나씩 다시 처리할 대상) */
+    @Query(value = """
+    SELECT *
+    FROM report_ingested_event
+    WHERE status = 'PENDING'
+    ORDER BY event_id
+    LIMIT :batchSize
+    """, nativeQuery = true)
+    List<ReportIngestedEvent> findPendingEvents(int batchSize);
+
+    /** 유저의 가장 오래된 대기 이벤트이면 잠그고 조회 (이미 처리됐거나, 다른 워커가 잠갔거나, 앞 이벤트가 남아 있으면 빈 값) */
+    @Query(value = """
+    SELECT e.*
+    FROM report_ingested_event e
+    WHERE e.event_id = :eventId
+      AND e.status = 'PENDING'
+      AND NOT EXISTS (
+          SELECT 1
+          FROM report_ingested_event earlier
+          WHERE earlier.user_id = e.user_id
+            AND earlier.status = 'PENDING'
+            AND earlier.event_id < e.event_id
+      )
+    FOR UPDATE OF e SKIP LOCKED
+    """, nativeQuery = true)
+    Optional<ReportIngestedEvent> lockOldestPendingEvent(Long eventId);
+
+    /** 처리 대기 중인 이벤트 하나를 잠그고 조회 (이미 처리됐거나 다른 워커가 잠갔으면 빈 값) */
+    @Query(value = """
+    SELECT *
+    FROM report_ingested_event
+    WHERE event_id = :eventId
+      AND status = 'PENDING'
+    FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    Optional<ReportIngestedEvent> lockPendingEvent(Long eventId);
+
+    @Modifying
+    @Query("delete from ReportIngestedEvent e where e.eventId in :eventIds")
+    void deleteAllByEventIdIn(Collection<Long> eventIds);
+
+}
@@ -0,0 +1,104 @@
+package notfound.ballog.domain.quarter.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.domain.quarter.entity.ReportIngestedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+public class AbilityRecalculationScheduler {
+
+    private final AbilityRecalculationService abilityRecalculationService;
+
+    private final ExecutorService workerPool;
+
+    private final int workers;
+
+    private final int batchSize;
+
+    public AbilityRecalculationScheduler(AbilityRecalculationService abilityRecalculationService,
+                                         @Value("${ability.recalc.workers:2}") int workers,
+                                         @Value("${ability.recalc.batch-size:100}") int batchSize) {
+        this.abilityRecalculationService = abilityRecalculationService;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.workerPool = Executors.newFixedThreadPool(workers);
+    }
+
+    // 대기 중인 경기 기록 등록 이벤트를 워커 수만큼 나눠서 처리 (SKIP LOCKED로 서로 다른 유저의 이벤트를 가져감)
+    @Scheduled(fixedDelayString = "${ability.recalc.poll-delay-ms:1000}")
+    public void recalculateAbilities() throws InterruptedException {
+        List<Callable<Integer>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(this::drain);
+        }
+        workerPool.invokeAll(tasks);
+    }
+
+    private int drain() {
+        int total = 0;
+        while (true) {
+            int processed;
+            try {
+                processed = abilityRecalculationService.processPendingEvents(batchSize);
+            } catch (Exception e) {
+                log.error("능력치 재계산 중 오류 발생, 이벤트별로 다시 처리: {}", e.getMessage(), e);
+                return total + processIndividually();
+            }
+
+            // 한 번에 유저당 이벤트 하나씩만 가져오므로 가져온 이벤트가 없을 때까지 반복
+            total += processed;
+            if (processed == 0) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * 묶음 처리가 실패했을 때 이벤트를 하나씩 처리해서 실패한 이벤트에만 시도 횟수를 올림
+     * - 나머지 이벤트는 정상 처리되거나 PENDING으로 남음
+     * - 같은 유저의 이전 이벤트가 실패하면 그 뒤 이벤트는 이번에는 건너뜀 (업로드 순서대로 가중치 반영)
+     * - 다른 워커가 처리 중인 유저의 이벤트는 processPendingEvent가 가져가지 않음
+     */
+    private int processIndividually() {
+        int processed = 0;
+        Set<UUID> failedUserIds = new HashSet<>();
+        for (ReportIngestedEvent event : abilityRecalculationService.findPendingEvents(batchSize)) {
+            if (failedUserIds.contains(event.getUserId())) {
+                continue;
+            }
+            try {
+                if (abilityRecalculationService.processPendingEvent(event.getEventId())) {
+                    processed++;
+                }
+            } catch (Exception e) {
+                log.error("능력치 재계산 이벤트 처리 중 오류 발생 - 이벤트 ID: {}, 오류: {}", event.getEventId(), e.getMessage(), e);
+                failedUserIds.add(event.getUserId());
+                try {
+                    abilityRecalculationService.recordFailure(event.getEventId());
+                } catch (Exception failException) {
+                    log.error("능력치 재계산 실패 기록 중 오류 발생 - 이벤트 ID: {}", event.getEventId(), failException);
+                }
+            }
+        }
+        return processed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+}
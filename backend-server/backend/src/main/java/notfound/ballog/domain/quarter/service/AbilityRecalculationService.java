@@ -0,0 +1,314 @@
+package notfound.ballog.domain.quarter.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.common.utils.HeatmapCodec;
+import notfound.ballog.domain.quarter.dto.GameReportStatDto;
+import notfound.ballog.domain.quarter.entity.ReportIngestedEvent;
+import notfound.ballog.domain.quarter.repository.GameReportRepository;
+import notfound.ballog.domain.quarter.repository.ReportIngestedEventRepository;
+import notfound.ballog.domain.team.dto.CardStat;
+import notfound.ballog.domain.team.service.TeamCardService;
+import notfound.ballog.domain.user.entity.PlayerCard;
+import notfound.ballog.domain.user.repository.PlayerCardRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 경기 기록 등록 이벤트를 받아 선수 카드 -> 팀 카드 순서로 능력치 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AbilityRecalculationService {
+
+    // 이 횟수만큼 실패한 이벤트는 FAILED로 두고 더 이상 처리하지 않음
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final ReportIngestedEventRepository reportIngestedEventRepository;
+    private final GameReportRepository gameReportRepository;
+    private final PlayerCardRepository playerCardRepository;
+    private final TeamCardService teamCardService;
+
+    /** 대기 중인 이벤트를 최대 batchSize개 처리하고 처리한 개수 반환 */
+    @Transactional
+    public int processPendingEvents(int batchSize) {
+        List<ReportIngestedEvent> events = reportIngestedEventRepository.lockPendingEvents(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        process(events);
+        return events.size();
+    }
+
+    /** 처리 대기 중인 이벤트를 잠그지 않고 오래된 순으로 조회 */
+    public List<ReportIngestedEvent> findPendingEvents(int batchSize) {
+        return reportIngestedEventRepository.findPendingEvents(batchSize);
+    }
+
+    /**
+     * 이벤트 하나만 처리 (묶음 처리가 실패했을 때 실패한 이벤트를 찾기 위해 사용)
+     * - 이미 처리됐거나, 다른 워커가 처리 중이거나, 같은 유저의 앞 이벤트가 남아 있으면 false
+     */
+    @Transactional
+    public boolean processPendingEvent(Long eventId) {
+        Optional<ReportIngestedEvent> event = reportIngestedEventRepository.lockOldestPendingEvent(eventId);
+        if (event.isEmpty()) {
+            return false;
+        }
+
+        process(List.of(event.get()));
+        return true;
+    }
+
+    private void process(List<ReportIngestedEvent> events) {
+        // 이번 묶음에 필요한 경기 기록, 선수 카드를 한 번에 조회
+        Set<Integer> reportIds = events.stream()
+                .flatMap(event -> Arrays.stream(event.getReportIds()))
+                .collect(Collectors.toSet());
+
+        Map<Integer, GameReportStatDto> reportMap = gameReportRepository.findStatsByReportIdIn(reportIds).stream()
+                .collect(Collectors.toMap(GameReportStatDto::getReportId, Function.identity()));
+
+        Set<UUID> userIds = events.stream()
+                .map(ReportIngestedEvent::getUserId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, PlayerCard> playerCardMap = playerCardRepository.findAllByUserIdInForUpdate(userIds).stream()
+                .collect(Collectors.toMap(playerCard -> playerCard.getUser().getUserId(), Function.identity()));
+
+        // 팀 카드에는 변화량만 반영하기 위해 갱신 전 능력치 보관
+        Map<UUID, CardStat> beforeMap = new HashMap<>();
+        playerCardMap.forEach((userId, playerCard) -> beforeMap.put(userId, CardStat.of(playerCard)));
+
+        // 업로드 순서대로 선수 카드 능력치 갱신 (업로드 한 번 = 가중치 반영 한 번)
+        for (ReportIngestedEvent event : events) {
+            PlayerCard playerCard = playerCardMap.get(event.getUserId());
+            if (playerCard == null) {
+                log.warn("선수 카드가 없어 능력치 재계산 건너뜀 - 유저 ID: {}", event.getUserId());
+                continue;
+            }
+
+            List<GameReportStatDto> reportList = Arrays.stream(event.getReportIds())
+                    .map(reportMap::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (reportList.isEmpty()) {
+                continue;
+            }
+
+            // 각 쿼터별 데이터 계산해서 능력치 추출 하고 평균 총 쿼터 평균 능력치 계산
+            Map<String, Integer> abilities = calculateAveragedAbilities(reportList);
+
+            // 계산한 값과 기존에 있던값 가중치 부여해서 능려치 업데이트
+            updatePlayerCardAbilities(playerCard, abilities);
+        }
+
+        playerCardRepository.saveAllAndFlush(playerCardMap.values());
+
+        // 소속 팀 카드에 능력치 변화량 반영 (같은 팀 선수 여러 명이 올려도 팀당 한 번)
+        Map<UUID, CardStat> deltaMap = new HashMap<>();
+        playerCardMap.forEach((userId, playerCard) -> deltaMap.put(userId, CardStat.of(playerCard).minus(beforeMap.get(userId))));
+        teamCardService.applyAbilityChanges(deltaMap);
+
+        reportIngestedEventRepository.deleteAllByEventIdIn(
+                events.stream().map(ReportIngestedEvent::getEventId).toList());
+    }
+
+    /** 처리에 실패한 이벤트의 시도 횟수 증가, 한도를 넘으면 FAILED 처리 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(Long eventId) {
+        reportIngestedEventRepository.lockPendingEvent(eventId).ifPresent(event -> {
+            event.setAttempts(event.getAttempts() + 1);
+            if (event.getAttempts() >= MAX_ATTEMPTS) {
+                event.setStatus(ReportIngestedEvent.FAILED);
+                log.error("능력치 재계산 이벤트 처리 실패 - 이벤트 ID: {}, 유저 ID: {}", event.getEventId(), event.getUserId());
+            }
+        });
+    }
+
+    private Map<String, Integer> calculateAveragedAbilities(List<GameReportStatDto> reportList) {
+        Map<String, Double> totalAbilities = new HashMap<>();
+        
+        // 초기화
+        totalAbilities.put("attack", 0.0);
+        totalAbilities.put("defense", 0.0);
+        totalAbilities.put("speed", 0.0);
+        totalAbilities.put("stamina", 0.0);
+        totalAbilities.put("recovery", 0.0);
+        
+        // 각 쿼터별로 능력치 계산해서 합산
+        for (GameReportStatDto report : reportList) {
+            Map<String, Integer> quarterAbilities = calculateAbilities(report);
+            
+            // 능력치 합산
+            totalAbilities.replaceAll((k, v) -> totalAbilities.get(k) + quarterAbilities.get(k));
+        }
+        
+        // 평균 계산 및 결과 반환
+        Map<String, Integer> averagedAbilities = new HashMap<>();
+        int count = Math.max(1, reportList.size());
+        
+        for (String key : totalAbilities.keySet()) {
+            double avg = totalAbilities.get(key) / count;
+            averagedAbilities.put(key, (int) Math.round(avg));
+        }
+        
+        return averagedAbilities;
+    }
+
+    private Map<String, Integer> calculateAbilities(GameReportStatDto report) {
+        Map<String, Integer> abilities = new HashMap<>();
+        
+        // 필요한 데이터 추출
+        double distance = report.getDistance();
+        double avgSpeed = report.getAvgSpeed();
+        double maxSpeed = report.getMaxSpeed();
+        int sprint = report.getSprint();
+        int avgHeartRate = report.getAvgHeartRate();
+        int maxHeartRate = report.getMaxHeartRate();
+        String gameSide = report.getMatchSide();
+        
+        // 히트맵 데이터 가져오기
+        byte[] heatmap = report.getHeatmap();
+        
+        // 경기 시간 계산 (분 단위)
+        double gameDurationMinutes = calculateGameDuration(report.getStartTime(), report.getEndTime());
+        
+        // 히트맵 분석 - 진영 점유율 계산
+        double[] occupancyRates = calculateOccupancyRates(heatmap, gameSide);
+        double opponentSideOccupancyRate = occupancyRates[0]; // 상대 진영 점유율
+        double mySideOccupancyRate = occupancyRates[1];       // 자기 진영 점유율
+        
+        // 공격력 계산
+        // (상대진영 점유 비율 * 0.6) + (스프린트 횟수/경기시간(분) * 0.3) + (최고 속도/20 * 0.1) * 100
+        double attack = (opponentSideOccupancyRate * 0.6) 
+                + ((double)sprint / Math.max(1, gameDurationMinutes) * 0.3) 
+                + (maxSpeed / 20.0 * 0.1);
+        attack = attack * 100;
+        abilities.put("attack", clamp((int)Math.round(attack)));
+        
+        // 수비력 계산
+        // (자기진영 점유 비율 * 0.7) + (스프린트 횟수/경기시간(분) * 0.15) + (이동거리/경기시간(분) * 0.15) * 100
+        double defense = (mySideOccupancyRate * 0.7) 
+                + ((double)sprint / Math.max(1, gameDurationMinutes) * 0.15) 
+                + (distance / Math.max(1, gameDurationMinutes) * 0.15);
+        defense = defense * 100;
+        abilities.put("defense", clamp((int)Math.round(defense)));
+        
+        // 스피드 계산
+        // (평균 속도/10 * 0.4 + 최고 속도/20 * 0.6) * 100
+        double speed = (avgSpeed / 10.0 * 0.4) + (maxSpeed / 20.0 * 0.6);
+        speed = speed * 100;
+        abilities.put("speed", clamp((int)Math.round(speed)));
+        
+        // 스태미나 계산
+        // (총 운동시간(분)/15 * 0.4 + 이동거리/(경기시간(분) * 80) * 0.4 + (1-(평균 심박수/최대 심박수)) * 0.2) * 100
+        double stamina = (gameDurationMinutes / 15.0 * 0.4) 
+                + (distance / (Math.max(1, gameDurationMinutes) * 80.0 / 1000.0) * 0.4);
+        
+        if (maxHeartRate > 0) {
+            stamina += ((1.0 - (double)avgHeartRate / maxHeartRate) * 0.2);
+        }
+        stamina = stamina * 100;
+        abilities.put("stamina", clamp((int)Math.round(stamina)));
+        
+        // 회복력 계산 (체중 제외)
+        // (최대 심박수-평균 심박수)/60 * 100
+        double recovery = (double)(maxHeartRate - avgHeartRate) / 60.0;
+        recovery = recovery * 100;
+        abilities.put("recovery", clamp((int)Math.round(recovery)));
+        
+        return abilities;
+    }
+
+    private void updatePlayerCardAbilities(PlayerCard playerCard, Map<String, Integer> abilities) {
+        playerCard.setAttack(calculateNewAbilityValue(playerCard.getAttack(), abilities.get("attack")));
+        playerCard.setDefense(calculateNewAbilityValue(playerCard.getDefense(), abilities.get("defense")));
+        playerCard.setSpeed(calculateNewAbilityValue(playerCard.getSpeed(), abilities.get("speed")));
+        playerCard.setStamina(calculateNewAbilityValue(playerCard.getStamina(), abilities.get("stamina")));
+        playerCard.setRecovery(calculateNewAbilityValue(playerCard.getRecovery(), abilities.get("recovery")));
+    }
+
+    private int calculateNewAbilityValue(int currentValue, int newValue) {
+        // 능력치 변화 비율 (기존 값 70%, 새 값 30% 반영)
+        double ratio = 0.7;
+        
+        if (currentValue == 0) {
+            // 첫 능력치 설정인 경우 새 값 그대로 사용
+            return newValue;
+        }
+        
+        // 기존 값과 새 값의 가중 평균
+        return (int) Math.round(currentValue * ratio + newValue * (1 - ratio));
+    }
+
+    private double calculateGameDuration(LocalTime startTime, LocalTime endTime) {
+        if (startTime == null || endTime == null) {
+            // 파싱 에러 시 기본값 반환
+            return 15.0; // 기본 15분
+        }
+
+        // 시간 차이 계산 (분)
+        long diffInMinutes = ChronoUnit.MINUTES.between(startTime, endTime);
+
+        // 음수일 경우(자정을 넘긴 경우) 24시간 추가
+        if (diffInMinutes < 0) {
+            diffInMinutes += 24 * 60;
+        }
+
+        return diffInMinutes;
+    }
+
+    private double[] calculateOccupancyRates(byte[] heatmap, String gameSide) {
+        int totalHeatValue = 0;
+        int opponentSideHeatValue = 0;
+        int mySideHeatValue = 0;
+        
+        // 히트맵 총합 및 각 진영 합계 계산 (기존과 동일하게 최대 10행 16열 범위만 반영)
+        for (int i = 0; i < Math.min(HeatmapCodec.ROWS, 10); i++) {
+            for (int j = 0; j < Math.min(HeatmapCodec.COLS, 16); j++) {
+                int value = HeatmapCodec.get(heatmap, i, j);
+                totalHeatValue += value;
+
+                // 좌측이 본인 진영인 경우
+                if ("left".equalsIgnoreCase(gameSide)) {
+                    if (j <= 7) { // 0~7번 열은 자기 진영
+                        mySideHeatValue += value;
+                    } else { // 8~15번 열은 상대 진영
+                        opponentSideHeatValue += value;
+                    }
+                } else { // 우측이 본인 진영인 경우
+                    if (j <= 7) { // 0~7번 열은 상대 진영
+                        opponentSideHeatValue += value;
+                    } else { // 8~15번 열은 자기 진영
+                        mySideHeatValue += value;
+                    }
+                }
+            }
+        }
+        
+        // 점유율 계산 (0~1 사이 값)
+        double opponentSideOccupancyRate = (totalHeatValue > 0) 
+                ? (double) opponentSideHeatValue / totalHeatValue 
+                : 0.0;
+        double mySideOccupancyRate = (totalHeatValue > 0) 
+                ? (double) mySideHeatValue / totalHeatValue 
+                : 0.0;
+        
+        return new double[] {opponentSideOccupancyRate, mySideOccupancyRate};
+    }
+
+    private int clamp(int value) {
+        return Math.max(0, Math.min(100, value));
+    }
+
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import notfound.ballog.domain.user.entity.PlayerCard;
 
 @Getter
 @Builder
@@ -21,4 +22,28 @@ public class CardStat {
 
     private int recovery;
 
+    public static CardStat of(PlayerCard playerCard) {
+        return CardStat.builder()
+                .speed(playerCard.getSpeed())
+                .stamina(playerCard.getStamina())
+                .attack(playerCard.getAttack())
+                .defense(playerCard.getDefense())
+                .recovery(playerCard.getRecovery())
+                .build();
+    }
+
+    public CardStat plus(CardStat other) {
+        return new CardStat(speed + other.speed, stamina + other.stamina, attack + other.attack,
+                defense + other.defense, recovery + other.recovery);
+    }
+
+    public CardStat minus(CardStat other) {
+        return new CardStat(speed - other.speed, stamina - other.stamina, attack - other.attack,
+                defense - other.defense, recovery - other.recovery);
+    }
+
+    public boolean isZero() {
+        return speed == 0 && stamina == 0 && attack == 0 && defense == 0 && recovery == 0;
+    }
+
 }
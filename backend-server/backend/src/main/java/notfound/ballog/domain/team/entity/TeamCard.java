@@ -41,6 +41,25 @@ public class TeamCard {
     @Column(columnDefinition = "SMALLINT")
     private int avgRecovery;
 
+    // 평균 계산용 누적값 (팀원 합류/탈퇴, 선수 카드 변경 시 증분 갱신)
+    @Column(columnDefinition = "INTEGER DEFAULT 0 NOT NULL")
+    private int memberCount;
+
+    @Column(columnDefinition = "INTEGER DEFAULT 0 NOT NULL")
+    private int sumSpeed;
+
+    @Column(columnDefinition = "INTEGER DEFAULT 0 NOT NULL")
+    private int sumStamina;
+
+    @Column(columnDefinition = "INTEGER DEFAULT 0 NOT NULL")
+    private int sumAttack;
+
+    @Column(columnDefinition = "INTEGER DEFAULT 0 NOT NULL")
+    private int sumDefense;
+
+    @Column(columnDefinition = "INTEGER DEFAULT 0 NOT NULL")
+    private int sumRecovery;
+
     public static TeamCard of(Integer teamId){
         return TeamCard.builder()
                 .teamId(teamId)
@@ -2,9 +2,99 @@ package notfound.ballog.domain.team.repository;
 
 import notfound.ballog.domain.team.entity.TeamCard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface TeamCardRepository extends JpaRepository<TeamCard, Integer> {
 
+    Optional<TeamCard> findByTeamId(Integer teamId);
+
     void deleteByTeamId(Integer teamId);
 
+    /** afterTeamId 다음 팀 카드부터 batchSize개를 팀 ID 순서로 행 잠금 (보정 중 증분 갱신은 보정 이후에 반영됨) */
+    @Query(value = """
+    SELECT team_id
+    FROM team_card
+    WHERE team_id > :afterTeamId
+    ORDER BY team_id
+    LIMIT :batchSize
+    FOR UPDATE
+    """, nativeQuery = true)
+    List<Integer> lockTeamIdsAfter(Integer afterTeamId, int batchSize);
+
+    /**
+     * (afterTeamId, lastTeamId] 범위 팀 카드를 현재 팀원 선수 카드 기준으로 한 번에 다시 계산
+     * - 누적값이 달라진 행만 갱신하고 갱신한 행 수 반환
+     * - 팀원이 없으면 누적값은 0, 평균은 기존 값 유지
+     */
+    @Modifying
+    @Query(value = """
+    UPDATE team_card tc
+    SET member_count = s.member_count,
+        sum_speed = s.sum_speed,
+        sum_stamina = s.sum_stamina,
+        sum_attack = s.sum_attack,
+        sum_defense = s.sum_defense,
+        sum_recovery = s.sum_recovery,
+        avg_speed = CASE WHEN s.member_count > 0
+            THEN ROUND(CAST(s.sum_speed AS NUMERIC) / s.member_count) ELSE tc.avg_speed END,
+        avg_stamina = CASE WHEN s.member_count > 0
+            THEN ROUND(CAST(s.sum_stamina AS NUMERIC) / s.member_count) ELSE tc.avg_stamina END,
+        avg_attack = CASE WHEN s.member_count > 0
+            THEN ROUND(CAST(s.sum_attack AS NUMERIC) / s.member_count) ELSE tc.avg_attack END,
+        avg_defense = CASE WHEN s.member_count > 0
+            THEN ROUND(CAST(s.sum_defense AS NUMERIC) / s.member_count) ELSE tc.avg_defense END,
+        avg_recovery = CASE WHEN s.member_count > 0
+            THEN ROUND(CAST(s.sum_recovery AS NUMERIC) / s.member_count) ELSE tc.avg_recovery END
+    FROM (
+        SELECT c.team_id,
+               COUNT(pc.card_id) AS member_count,
+               COALESCE(SUM(pc.speed), 0) AS sum_speed,
+               COALESCE(SUM(pc.stamina), 0) AS sum_stamina,
+               COALESCE(SUM(pc.attack), 0) AS sum_attack,
+               COALESCE(SUM(pc.defense), 0) AS sum_defense,
+               COALESCE(SUM(pc.recovery), 0) AS sum_recovery
+        FROM team_card c
+        LEFT JOIN team_member tm ON tm.team_id = c.team_id
+        LEFT JOIN player_card pc ON pc.user_id = tm.user_id
+        WHERE c.team_id > :afterTeamId AND c.team_id <= :lastTeamId
+        GROUP BY c.team_id
+    ) s
+    WHERE tc.team_id = s.team_id
+      AND (tc.member_count, tc.sum_speed, tc.sum_stamina, tc.sum_attack, tc.sum_defense, tc.sum_recovery)
+          IS DISTINCT FROM (s.member_count, s.sum_speed, s.sum_stamina, s.sum_attack, s.sum_defense, s.sum_recovery)
+    """, nativeQuery = true)
+    int reconcileRange(Integer afterTeamId, Integer lastTeamId);
+
+    /**
+     * 팀 카드 누적값에 변화량을 더하고 평균을 같은 문장에서 다시 계산
+     * - 읽고 쓰는 사이에 다른 갱신이 끼어들지 않도록 한 문장으로 처리
+     * - 팀원이 없어지면 기존 평균 유지
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+    UPDATE team_card
+    SET member_count = member_count + :countDelta,
+        sum_speed = sum_speed + :speed,
+        sum_stamina = sum_stamina + :stamina,
+        sum_attack = sum_attack + :attack,
+        sum_defense = sum_defense + :defense,
+        sum_recovery = sum_recovery + :recovery,
+        avg_speed = CASE WHEN member_count + :countDelta > 0
+            THEN ROUND(CAST(sum_speed + :speed AS NUMERIC) / (member_count + :countDelta)) ELSE avg_speed END,
+        avg_stamina = CASE WHEN member_count + :countDelta > 0
+            THEN ROUND(CAST(sum_stamina + :stamina AS NUMERIC) / (member_count + :countDelta)) ELSE avg_stamina END,
+        avg_attack = CASE WHEN member_count + :countDelta > 0
+            THEN ROUND(CAST(sum_attack + :attack AS NUMERIC) / (member_count + :countDelta)) ELSE avg_attack END,
+        avg_defense = CASE WHEN member_count + :countDelta > 0
+            THEN ROUND(CAST(sum_defense + :defense AS NUMERIC) / (member_count + :countDelta)) ELSE avg_defense END,
+        avg_recovery = CASE WHEN member_count + :countDelta > 0
+            THEN ROUND(CAST(sum_recovery + :recovery AS NUMERIC) / (member_count + :countDelta)) ELSE avg_recovery END
+    WHERE team_id = :teamId
+    """, nativeQuery = true)
+    int applyDelta(Integer teamId, int countDelta, int speed, int stamina, int attack, int defense, int recovery);
+
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,12 +14,14 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Integer>
     @Query("SELECT tm.userId FROM TeamMember tm WHERE tm.teamMemberId IN :teamMemberIds")
     List<UUID> findUserIdsByTeamMemberIds(List<Integer> teamMemberIds);
 
+    List<TeamMember> findAllByUserIdIn(Collection<UUID> userIds);
+
     @Query("select tm.role from TeamMember tm where tm.userId = :userId and tm.teamId = :teamId")
     String findByUserIdAndTeamId(UUID userId, Integer teamId);
 
     @Modifying
     @Query("delete from TeamMember tm where tm.userId =:userId and tm.teamId = :teamId")
-    void deleteByUserIdAndTeamId(UUID userId, Integer teamId);
+    int deleteByUserIdAndTeamId(UUID userId, Integer teamId);
 
     @Modifying
     void deleteAllByTeamId(Integer teamId);
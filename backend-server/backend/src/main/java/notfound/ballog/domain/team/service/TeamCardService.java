@@ -0,0 +1,118 @@
+package notfound.ballog.domain.team.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.domain.team.dto.CardStat;
+import notfound.ballog.domain.team.entity.TeamMember;
+import notfound.ballog.domain.team.repository.TeamCardRepository;
+import notfound.ballog.domain.team.repository.TeamMemberRepository;
+import notfound.ballog.domain.user.entity.PlayerCard;
+import notfound.ballog.domain.user.repository.PlayerCardRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 팀 카드 누적값(팀원 수, 능력치 합계) 관리
+ * - 팀원 합류/탈퇴, 선수 카드 능력치 변경 시 변화량만 반영
+ * - 선수 카드 -> 팀 카드 순서로 잠가서 능력치 재계산과 팀원 변경이 서로 어긋나지 않게 함
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TeamCardService {
+
+    private final TeamCardRepository teamCardRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final PlayerCardRepository playerCardRepository;
+    private final Counter reconciledRowCounter;
+
+    public TeamCardService(TeamCardRepository teamCardRepository,
+                           TeamMemberRepository teamMemberRepository,
+                           PlayerCardRepository playerCardRepository,
+                           MeterRegistry meterRegistry) {
+        this.teamCardRepository = teamCardRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.playerCardRepository = playerCardRepository;
+        this.reconciledRowCounter = Counter.builder("team_card.reconcile.rows_changed")
+                .description("보정 작업에서 누적값이 달라져 갱신된 팀 카드 수")
+                .register(meterRegistry);
+    }
+
+    /** 팀원 합류 시 선수 카드 능력치를 팀 카드에 더하기 */
+    @Transactional
+    public void applyMemberJoined(Integer teamId, UUID userId) {
+        applyMemberChange(teamId, userId, 1);
+    }
+
+    /** 팀원 탈퇴 시 선수 카드 능력치를 팀 카드에서 빼기 */
+    @Transactional
+    public void applyMemberLeft(Integer teamId, UUID userId) {
+        applyMemberChange(teamId, userId, -1);
+    }
+
+    private void applyMemberChange(Integer teamId, UUID userId, int sign) {
+        List<PlayerCard> playerCards = playerCardRepository.findAllByUserIdInForUpdate(List.of(userId));
+        if (playerCards.isEmpty()) {
+            return;
+        }
+
+        CardStat stat = CardStat.of(playerCards.get(0));
+        teamCardRepository.applyDelta(teamId, sign,
+                sign * stat.getSpeed(), sign * stat.getStamina(), sign * stat.getAttack(),
+                sign * stat.getDefense(), sign * stat.getRecovery());
+    }
+
+    /**
+     * 선수 카드 능력치 변화량을 소속 팀 카드에 반영
+     * - 호출 측에서 해당 선수 카드 잠금을 잡고 있어야 함
+     * - 같은 팀 선수 여러 명의 변화량은 합쳐서 팀당 한 번만 갱신
+     */
+    @Transactional
+    public void applyAbilityChanges(Map<UUID, CardStat> deltaByUserId) {
+        if (deltaByUserId.isEmpty()) {
+            return;
+        }
+
+        // 팀 ID 순서로 갱신해서 워커끼리 교착 상태가 생기지 않게 함
+        Map<Integer, CardStat> deltaByTeamId = new TreeMap<>();
+        for (TeamMember teamMember : teamMemberRepository.findAllByUserIdIn(deltaByUserId.keySet())) {
+            deltaByTeamId.merge(teamMember.getTeamId(), deltaByUserId.get(teamMember.getUserId()), CardStat::plus);
+        }
+
+        deltaByTeamId.forEach((teamId, delta) -> {
+            if (!delta.isZero()) {
+                teamCardRepository.applyDelta(teamId, 0,
+                        delta.getSpeed(), delta.getStamina(), delta.getAttack(),
+                        delta.getDefense(), delta.getRecovery());
+            }
+        });
+    }
+
+    /**
+     * afterTeamId 다음 팀부터 batchSize개 팀의 누적값을 처음부터 다시 계산
+     * - 증분 갱신이 어긋났을 때를 대비한 보정용
+     * - 잠금과 재계산을 문장 두 개로 나눠서 재계산 문장이 잠금 이후에 커밋된 선수 카드 값을 읽게 함
+     * - 처리한 마지막 팀 ID 반환, 더 없으면 null
+     */
+    @Transactional
+    public Integer reconcileTeamCards(Integer afterTeamId, int batchSize) {
+        List<Integer> teamIds = teamCardRepository.lockTeamIdsAfter(afterTeamId, batchSize);
+        if (teamIds.isEmpty()) {
+            return null;
+        }
+
+        Integer lastTeamId = teamIds.get(teamIds.size() - 1);
+        int changed = teamCardRepository.reconcileRange(afterTeamId, lastTeamId);
+        reconciledRowCounter.increment(changed);
+
+        log.debug("팀 카드 보정 - 팀 ID ({}, {}], 대상 {}개, 변경 {}개", afterTeamId, lastTeamId, teamIds.size(), changed);
+        return lastTeamId;
+    }
+
+}
@@ -2,6 +2,7 @@ package notfound.ballog.domain.team.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -12,15 +13,15 @@ public class TeamCardUpdateScheduler {
 
     private final TeamService teamService;
 
-    // 매주 일요일 새벽 4시에 실행
-    // @Scheduled(cron = "0 0 4 ? * SUN")
-    
-    // 테스트 용 매 정각마다 실행
-    @Scheduled(cron = "0 0 * * * *")
+    @Value("${team-card.reconcile.batch-size:500}")
+    private int batchSize;
+
+    // 팀 카드는 팀원 변경/능력치 재계산 시 증분 갱신되므로 하루 한 번 누적값만 보정 (기본 새벽 4시)
+    @Scheduled(cron = "${team-card.reconcile.cron:0 0 4 * * *}")
     public void updateTeamCards() {
-        log.info("팀 카드 주간 업데이트 스케줄러 시작");
-        teamService.updateAllTeamCards();
-        log.info("팀 카드 주간 업데이트 스케줄러 완료");
+        log.info("팀 카드 보정 스케줄러 시작");
+        teamService.updateAllTeamCards(batchSize);
+        log.info("팀 카드 보정 스케줄러 완료");
     }
 
 }
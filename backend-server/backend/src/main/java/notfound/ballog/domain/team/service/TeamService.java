@@ -1,5 +1,7 @@
 package notfound.ballog.domain.team.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notfound.ballog.common.response.BaseResponseStatus;
@@ -18,9 +20,9 @@ import notfound.ballog.domain.team.request.TeamMemberAddRequest;
 import notfound.ballog.domain.team.response.TeamDetailResponse;
 import notfound.ballog.domain.team.response.TeamMemberListResponse;
 import notfound.ballog.domain.team.response.UserTeamListResponse;
-import notfound.ballog.domain.user.repository.PlayerCardRepository;
 import notfound.ballog.exception.InternalServerException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -35,7 +37,8 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final TeamCardRepository teamCardRepository;
     private final TeamMemberRepository teamMemberRepository;
-    private final PlayerCardRepository playerCardRepository;
+    private final TeamCardService teamCardService;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public void addTeam(UUID userId, TeamAddRequest teamAddRequest) {
@@ -45,6 +48,8 @@ public class TeamService {
         teamCardRepository.save(TeamCard.of(team.getTeamId()));
 
         teamMemberRepository.save(TeamMember.of(userId, new TeamMemberAddRequest(team.getTeamId(), "MANAGER")));
+
+        teamCardService.applyMemberJoined(team.getTeamId(), userId);
     }
 
     public UserTeamListResponse getUserTeamList(UUID userId){
@@ -57,7 +62,7 @@ public class TeamService {
 
     public TeamDetailResponse getTeamDetail(Integer teamId){
         Team team = teamRepository.findById(teamId).orElse(null);
-        TeamCard teamCard = teamCardRepository.findById(teamId).orElse(null);
+        TeamCard teamCard = teamCardRepository.findByTeamId(teamId).orElse(null);
 
         if(team == null || teamCard == null){
             throw new InternalServerException(BaseResponseStatus.TEAM_NOT_FOUND);
@@ -75,6 +80,8 @@ public class TeamService {
     @Transactional
     public void addTeamMember(UUID userId, TeamMemberAddRequest req){
         teamMemberRepository.save(TeamMember.of(userId, req));
+
+        teamCardService.applyMemberJoined(req.getTeamId(), userId);
     }
 
     @Transactional
@@ -115,7 +122,14 @@ public class TeamService {
     public void deleteTeamMember(UUID userId, Integer teamId, Integer teamMemberId){
         checkTeamMemberRole(userId, teamId);
 
-        teamMemberRepository.deleteById(teamMemberId);
+        TeamMember teamMember = teamMemberRepository.findById(teamMemberId).orElse(null);
+        if (teamMember == null) {
+            return;
+        }
+
+        teamMemberRepository.delete(teamMember);
+
+        teamCardService.applyMemberLeft(teamMember.getTeamId(), teamMember.getUserId());
     }
 
     private void checkTeamMemberRole(UUID userId, Integer teamId){
@@ -128,43 +142,37 @@ public class TeamService {
 
     @Transactional
     public void leaveTeam(UUID userId, Integer teamId){
-        teamMemberRepository.deleteByUserIdAndTeamId(userId, teamId);
+        if (teamMemberRepository.deleteByUserIdAndTeamId(userId, teamId) > 0) {
+            teamCardService.applyMemberLeft(teamId, userId);
+        }
     }
 
-    @Transactional
-    public void updateAllTeamCards() {
-        List<Integer> allTeamIds = teamRepository.findAllTeamIds();
-        
-        log.info("총 {} 개의 팀 카드 업데이트 시작", allTeamIds.size());
-        
-        for (Integer teamId : allTeamIds) {
+    /** 전체 팀 카드 보정 (팀 ID 범위별 UPDATE 한 번씩, 배치마다 트랜잭션을 나눠서 잠금 시간을 짧게 유지) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateAllTeamCards(int batchSize) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int batchCount = 0;
+        Integer lastTeamId = 0;
+
+        while (true) {
+            Integer processedTeamId;
             try {
-                updateTeamCard(teamId);
+                processedTeamId = teamCardService.reconcileTeamCards(lastTeamId, batchSize);
             } catch (Exception e) {
-                log.error("팀 카드 업데이트 중 오류 발생 - 팀 ID: {}, 오류: {}", teamId, e.getMessage());
+                log.error("팀 카드 보정 중 오류 발생 - 마지막 팀 ID: {}, 오류: {}", lastTeamId, e.getMessage());
+                sample.stop(meterRegistry.timer("team_card.reconcile.duration", "result", "failure"));
+                return;
             }
-        }
-    }
 
-    @Transactional
-    public void updateTeamCard(Integer teamId) {
-        PlayerCardRepository.TeamCardProjection projection = playerCardRepository.calculateTeamAverages(teamId);
-        
-        if (projection == null || projection.getMemberCount() == 0) {
-            log.info("팀 ID {}에 속한 팀원이 없거나 선수 카드가 없습니다.", teamId);
-            return;
+            if (processedTeamId == null) {
+                break;
+            }
+            batchCount++;
+            lastTeamId = processedTeamId;
         }
 
-        TeamCard teamCard = teamCardRepository.findById(teamId)
-                .orElseThrow(() -> new InternalServerException(BaseResponseStatus.TEAM_NOT_FOUND));
-        
-        teamCard.setAvgSpeed(projection.getAvgSpeed());
-        teamCard.setAvgStamina(projection.getAvgStamina());
-        teamCard.setAvgAttack(projection.getAvgAttack());
-        teamCard.setAvgDefense(projection.getAvgDefense());
-        teamCard.setAvgRecovery(projection.getAvgRecovery());
-        
-        log.info("팀 ID {}의 팀 카드 업데이트 완료. 팀원 수: {}", teamId, projection.getMemberCount());
+        long elapsedNanos = sample.stop(meterRegistry.timer("team_card.reconcile.duration", "result", "success"));
+        log.info("팀 카드 보정 완료. 마지막 팀 ID: {}, 배치 수: {}, 소요 시간: {}ms", lastTeamId, batchCount, elapsedNanos / 1_000_000);
     }
 
 }
@@ -8,10 +8,14 @@ import notfound.ballog.common.response.BaseResponse;
 import notfound.ballog.domain.user.request.AddS3ImageUrlRequest;
 import notfound.ballog.domain.user.request.UpdateUserRequest;
 import notfound.ballog.domain.user.response.*;
+import notfound.ballog.domain.user.service.AiRecommendService;
+import notfound.ballog.domain.user.service.AiRecommendStreamService;
 import notfound.ballog.domain.user.service.PlayerCardService;
 import notfound.ballog.domain.user.service.UserService;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -27,6 +31,9 @@ public class UserController {
 
     private final PlayerCardService playerCardService;
 
+    private final AiRecommendService aiRecommendService;
+    private final AiRecommendStreamService aiRecommendStreamService;
+
     @Operation(summary = "유저 정보 조회")
     @GetMapping()
     public BaseResponse<GetUserResponse> getUser(@AuthenticationPrincipal UUID userId) {
@@ -66,7 +73,13 @@ public class UserController {
     public BaseResponse<AiRecommendResponse> getAiRecommend(@AuthenticationPrincipal UUID userId) {
 
 
-        return BaseResponse.ok(userService.getAiRecommend(userId));
+        return BaseResponse.ok(aiRecommendService.getAiRecommend(userId));
+    }
+
+    @Operation(summary = "AI 리포트 스트리밍 발급", description = "분석 항목별 이벤트를 생성되는 대로 보내고 마지막에 done 이벤트로 전체 결과를 보냄")
+    @PostMapping(value = "/ai-recommend/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAiRecommend(@AuthenticationPrincipal UUID userId) {
+        return aiRecommendStreamService.streamAiRecommend(userId);
     }
 
     @Operation(summary = "presignedUrl 발급")
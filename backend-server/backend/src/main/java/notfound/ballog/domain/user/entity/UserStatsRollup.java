@@ -0,0 +1,172 @@
+package notfound.ballog.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import notfound.ballog.common.utils.HeatmapCodec;
+import notfound.ballog.domain.quarter.dto.GameReportStatDto;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 유저별 최근 경기 기록 통계 (경기 기록 등록 시 같은 트랜잭션에서 갱신)
+ * - 최근 CAPACITY개 기록의 수치를 링 버퍼로 보관
+ * - 히트맵은 링 버퍼 + 칸별 누적 합계로 보관해서 평균을 바로 계산
+ */
+@Entity
+@Table(name = "user_stats_rollup")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatsRollup {
+
+    public static final int CAPACITY = 5;
+
+    @Id
+    @Column(columnDefinition = "UUID")
+    private UUID userId;
+
+    // 지금까지 반영된 기록 수 (다음 저장 위치 = reportCount % CAPACITY)
+    private int reportCount;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "double precision[]")
+    private double[] distance;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "double precision[]")
+    private double[] avgSpeed;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "integer[]")
+    private int[] sprint;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "integer[]")
+    private int[] avgHeartRate;
+
+    // CAPACITY * HeatmapCodec.SIZE bytes
+    @Column(columnDefinition = "bytea")
+    private byte[] heatmaps;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "integer[]")
+    private int[] heatmapSum;
+
+    private LocalDateTime updatedAt;
+
+    public static UserStatsRollup empty(UUID userId) {
+        return UserStatsRollup.builder()
+                .userId(userId)
+                .reportCount(0)
+                .distance(new double[CAPACITY])
+                .avgSpeed(new double[CAPACITY])
+                .sprint(new int[CAPACITY])
+                .avgHeartRate(new int[CAPACITY])
+                .heatmaps(new byte[CAPACITY * HeatmapCodec.SIZE])
+                .heatmapSum(new int[HeatmapCodec.SIZE])
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /** 최신순으로 조회한 기록으로 롤업 재구성 */
+    public static UserStatsRollup rebuild(UUID userId, List<GameReportStatDto> recentReports) {
+        UserStatsRollup rollup = empty(userId);
+        rollup.addRecentReports(recentReports);
+        return rollup;
+    }
+
+    /** 최신순으로 조회한 기록을 오래된 것부터 반영 (최근 CAPACITY개만) */
+    public void addRecentReports(List<GameReportStatDto> recentReports) {
+        for (int i = Math.min(recentReports.size(), CAPACITY) - 1; i >= 0; i--) {
+            addReport(recentReports.get(i));
+        }
+    }
+
+    /** 새 기록 반영 (가장 오래된 기록을 밀어내고 히트맵 합계 갱신) */
+    public void addReport(GameReportStatDto report) {
+        int slot = reportCount % CAPACITY;
+        int offset = slot * HeatmapCodec.SIZE;
+        byte[] heatmap = report.getHeatmap();
+
+        for (int k = 0; k < HeatmapCodec.SIZE; k++) {
+            int newValue = heatmap != null ? heatmap[k] & 0xFF : 0;
+            heatmapSum[k] += newValue - (heatmaps[offset + k] & 0xFF);
+            heatmaps[offset + k] = (byte) newValue;
+        }
+
+        distance[slot] = report.getDistance() != null ? report.getDistance() : 0.0;
+        avgSpeed[slot] = report.getAvgSpeed() != null ? report.getAvgSpeed() : 0.0;
+        sprint[slot] = report.getSprint() != null ? report.getSprint() : 0;
+        avgHeartRate[slot] = report.getAvgHeartRate() != null ? report.getAvgHeartRate() : 0;
+
+        reportCount++;
+        updatedAt = LocalDateTime.now();
+    }
+
+    /** 보관 중인 기록 수 */
+    public int size() {
+        return Math.min(reportCount, CAPACITY);
+    }
+
+    /** i번째로 최근 기록의 링 버퍼 위치 (0 = 가장 최근) */
+    private int slotOf(int i) {
+        return (reportCount - 1 - i) % CAPACITY;
+    }
+
+    public List<Double> recentDistance() {
+        List<Double> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            list.add(distance[slotOf(i)]);
+        }
+        return list;
+    }
+
+    public List<Double> recentAvgSpeed() {
+        List<Double> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            list.add(avgSpeed[slotOf(i)]);
+        }
+        return list;
+    }
+
+    public List<Integer> recentSprint() {
+        List<Integer> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            list.add(sprint[slotOf(i)]);
+        }
+        return list;
+    }
+
+    public List<Integer> recentAvgHeartRate() {
+        List<Integer> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            list.add(avgHeartRate[slotOf(i)]);
+        }
+        return list;
+    }
+
+    /** 보관 중인 기록들의 칸별 평균 히트맵 */
+    public List<List<Integer>> averagedHeatmap() {
+        List<List<Integer>> averagedHeatmap = new ArrayList<>();
+        int count = size();
+        if (count == 0) {
+            return averagedHeatmap;
+        }
+
+        for (int i = 0; i < HeatmapCodec.ROWS; i++) {
+            List<Integer> averagedRow = new ArrayList<>(HeatmapCodec.COLS);
+            for (int j = 0; j < HeatmapCodec.COLS; j++) {
+                averagedRow.add((int) Math.round((double) heatmapSum[i * HeatmapCodec.COLS + j] / count));
+            }
+            averagedHeatmap.add(averagedRow);
+        }
+        return averagedHeatmap;
+    }
+
+}
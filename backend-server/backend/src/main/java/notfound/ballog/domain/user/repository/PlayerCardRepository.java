@@ -1,10 +1,14 @@
 package notfound.ballog.domain.user.repository;
 
+import jakarta.persistence.LockModeType;
 import notfound.ballog.domain.team.dto.TeamCardDto;
 import notfound.ballog.domain.user.entity.PlayerCard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,31 +16,9 @@ public interface PlayerCardRepository extends JpaRepository<PlayerCard, Integer>
 
     Optional<PlayerCard> findByUser_UserId(UUID userId);
 
-    // 프로젝션 인터페이스 정의
-    interface TeamCardProjection {
-        Integer getMemberCount();
-        Integer getAvgSpeed();
-        Integer getAvgStamina();
-        Integer getAvgAttack();
-        Integer getAvgDefense();
-        Integer getAvgRecovery();
-    }
-
-    @Query(value = """
-    SELECT 
-        COUNT(pc.card_id) as memberCount,
-        CAST(COALESCE(AVG(pc.speed), 0) AS INTEGER) as avgSpeed, 
-        CAST(COALESCE(AVG(pc.stamina), 0) AS INTEGER) as avgStamina, 
-        CAST(COALESCE(AVG(pc.attack), 0) AS INTEGER) as avgAttack, 
-        CAST(COALESCE(AVG(pc.defense), 0) AS INTEGER) as avgDefense, 
-        CAST(COALESCE(AVG(pc.recovery), 0) AS INTEGER) as avgRecovery
-    FROM 
-        player_card pc
-    JOIN 
-        team_member tm ON pc.user_id = tm.user_id
-    WHERE 
-        tm.team_id = :teamId
-    """, nativeQuery = true)
-    TeamCardProjection calculateTeamAverages(Integer teamId);
+    /** 능력치 재계산 시 동시 갱신을 막기 위해 행 잠금 후 조회 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select pc from PlayerCard pc where pc.user.userId in :userIds order by pc.cardId")
+    List<PlayerCard> findAllByUserIdInForUpdate(Collection<UUID> userIds);
     
 }
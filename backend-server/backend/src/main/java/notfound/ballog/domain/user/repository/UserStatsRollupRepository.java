@@ -0,0 +1,37 @@
+package notfound.ballog.domain.user.repository;
+
+import jakarta.persistence.LockModeType;
+import notfound.ballog.domain.user.entity.UserStatsRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserStatsRollupRepository extends JpaRepository<UserStatsRollup, UUID> {
+
+    /** 경기 기록 등록 시 동시 갱신을 막기 위해 행 잠금 후 조회 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from UserStatsRollup r where r.userId = :userId")
+    Optional<UserStatsRollup> findByIdForUpdate(UUID userId);
+
+    /**
+     * 롤업이 없으면 빈 롤업(reportCount = 0) 생성, 이미 있으면 아무것도 하지 않음
+     * - 첫 경기 기록 등록이 동시에 들어와도 PK 충돌 없이 한 행만 생기고, 이후 findByIdForUpdate로 잠가서 갱신
+     */
+    @Modifying
+    @Query(value = """
+    INSERT INTO user_stats_rollup (user_id, report_count, distance, avg_speed, sprint, avg_heart_rate,
+                                   heatmaps, heatmap_sum, updated_at)
+    VALUES (:userId, 0,
+            array_fill(0::float8, ARRAY[:capacity]), array_fill(0::float8, ARRAY[:capacity]),
+            array_fill(0, ARRAY[:capacity]), array_fill(0, ARRAY[:capacity]),
+            decode(repeat('00', :capacity * :heatmapSize), 'hex'), array_fill(0, ARRAY[:heatmapSize]),
+            now())
+    ON CONFLICT (user_id) DO NOTHING
+    """, nativeQuery = true)
+    void insertEmptyIfAbsent(UUID userId, int capacity, int heatmapSize);
+
+}
@@ -0,0 +1,208 @@
+package notfound.ballog.domain.user.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.common.utils.TokenBucket;
+import notfound.ballog.domain.quarter.dto.GameReportCursorDto;
+import notfound.ballog.domain.quarter.repository.GameReportRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 새벽 시간대 AI 리포트 사전 생성
+ * - 마지막 실행 이후 경기 기록이 등록된 유저 중 최신 입력으로 만든 리포트가 없는 유저만 미리 계산해서 캐시에 넣음
+ * - 경기 기록을 (createdAt, reportId) 순서로 훑고, 배치마다 커서를 Redis에 저장해서 재시작해도 이어서 처리
+ * - OpenAI 분당 요청 수/토큰 수 한도는 토큰 버킷으로 지키고, 한 번에 한 서버만 실행 (Redis lock)
+ * - 사전 생성에 실패하거나 빠진 유저는 AI 탭을 열 때 기존처럼 계산됨
+ */
+@Slf4j
+@Component
+public class AiRecommendPrecomputeScheduler {
+
+    private static final String CURSOR_KEY = "aiRecommend:precompute:cursor";
+
+    private static final String LOCK_KEY = "aiRecommend:precompute:lock";
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final AiRecommendService aiRecommendService;
+
+    private final GameReportRepository gameReportRepository;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ExecutorService workerPool;
+
+    private final int batchSize;
+
+    private final Duration maxDuration;
+
+    private final Duration settleDelay;
+
+    private final Duration initialLookback;
+
+    private final TokenBucket requestBucket;
+
+    private final TokenBucket tokenBucket;
+
+    private final long estimatedTokensPerRequest;
+
+    public AiRecommendPrecomputeScheduler(AiRecommendService aiRecommendService,
+                                          GameReportRepository gameReportRepository,
+                                          StringRedisTemplate redisTemplate,
+                                          @Value("${ai-recommend.precompute.workers:2}") int workers,
+                                          @Value("${ai-recommend.precompute.batch-size:200}") int batchSize,
+                                          @Value("${ai-recommend.precompute.max-duration-minutes:120}") long maxDurationMinutes,
+                                          @Value("${ai-recommend.precompute.settle-delay-minutes:5}") long settleDelayMinutes,
+                                          @Value("${ai-recommend.precompute.initial-lookback-days:7}") long initialLookbackDays,
+                                          @Value("${ai-recommend.precompute.requests-per-minute:20}") long requestsPerMinute,
+                                          @Value("${ai-recommend.precompute.tokens-per-minute:60000}") long tokensPerMinute,
+                                          @Value("${ai-recommend.precompute.estimated-tokens-per-request:4000}") long estimatedTokensPerRequest) {
+        this.aiRecommendService = aiRecommendService;
+        this.gameReportRepository = gameReportRepository;
+        this.redisTemplate = redisTemplate;
+        this.workerPool = Executors.newFixedThreadPool(workers);
+        this.batchSize = batchSize;
+        this.maxDuration = Duration.ofMinutes(maxDurationMinutes);
+        this.settleDelay = Duration.ofMinutes(settleDelayMinutes);
+        this.initialLookback = Duration.ofDays(initialLookbackDays);
+        this.requestBucket = new TokenBucket(requestsPerMinute);
+        this.tokenBucket = new TokenBucket(tokensPerMinute);
+        this.estimatedTokensPerRequest = estimatedTokensPerRequest;
+    }
+
+    @Scheduled(cron = "${ai-recommend.precompute.cron:0 0 4 * * *}")
+    public void precompute() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, maxDuration))) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        AtomicInteger computed = new AtomicInteger();
+        int scanned = 0;
+        try {
+            GameReportCursorDto cursor = loadCursor();
+
+            // 아직 커밋되지 않았을 수 있는 최근 기록은 다음 실행에서 처리
+            LocalDateTime until = LocalDateTime.now().minus(settleDelay);
+
+            while (System.nanoTime() < deadline) {
+                List<GameReportCursorDto> reports = gameReportRepository.findReportsAfter(
+                        cursor.getCreatedAt(), cursor.getReportId(), until, PageRequest.of(0, batchSize));
+                if (reports.isEmpty()) {
+                    break;
+                }
+
+                Set<UUID> userIds = reports.stream()
+                        .map(GameReportCursorDto::getUserId)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+
+                // 시간 안에 다 못 끝낸 배치는 커서를 옮기지 않음 (다음 실행에서 이미 만든 유저는 건너뜀)
+                if (!precomputeUsers(userIds, deadline, computed)) {
+                    break;
+                }
+
+                cursor = reports.get(reports.size() - 1);
+                saveCursor(cursor);
+                scanned += reports.size();
+
+                if (reports.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("AI 리포트 사전 생성 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            if (token.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        }
+
+        log.info("AI 리포트 사전 생성 완료 - 확인한 경기 기록 {}개, 생성 {}개", scanned, computed.get());
+    }
+
+    // 유저별로 워커에 나눠서 처리, 모두 처리했으면 true
+    private boolean precomputeUsers(Set<UUID> userIds, long deadline, AtomicInteger computed)
+            throws InterruptedException {
+        List<Callable<Boolean>> tasks = new ArrayList<>(userIds.size());
+        for (UUID userId : userIds) {
+            tasks.add(() -> precomputeUser(userId, deadline, computed));
+        }
+
+        boolean finished = true;
+        for (Future<Boolean> future : workerPool.invokeAll(tasks)) {
+            try {
+                finished &= future.get();
+            } catch (ExecutionException e) {
+                finished = false;
+            }
+        }
+        return finished;
+    }
+
+    private boolean precomputeUser(UUID userId, long deadline, AtomicInteger computed) throws InterruptedException {
+        if (System.nanoTime() >= deadline) {
+            return false;
+        }
+        if (aiRecommendService.isUpToDate(userId)) {
+            return true;
+        }
+
+        // 남은 시간 안에 한도가 안 나면 이번 실행은 여기서 멈춤
+        Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        if (!requestBucket.acquire(1, remaining) || !tokenBucket.acquire(estimatedTokensPerRequest, remaining)) {
+            return false;
+        }
+
+        try {
+            // 사용자 요청과 겹쳐도 single-flight로 GPT 호출은 한 번
+            aiRecommendService.getAiRecommend(userId);
+            computed.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("AI 리포트 사전 생성 실패 - userId: {}, 오류: {}", userId, e.getMessage());
+        }
+        return true;
+    }
+
+    private GameReportCursorDto loadCursor() {
+        String value = redisTemplate.opsForValue().get(CURSOR_KEY);
+        if (value == null) {
+            return new GameReportCursorDto(LocalDateTime.now().minus(initialLookback), 0, null);
+        }
+
+        int separator = value.indexOf(CURSOR_SEPARATOR);
+        return new GameReportCursorDto(LocalDateTime.parse(value.substring(0, separator)),
+                Integer.parseInt(value.substring(separator + 1)), null);
+    }
+
+    private void saveCursor(GameReportCursorDto cursor) {
+        redisTemplate.opsForValue().set(CURSOR_KEY, cursor.getCreatedAt() + CURSOR_SEPARATOR + cursor.getReportId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+}
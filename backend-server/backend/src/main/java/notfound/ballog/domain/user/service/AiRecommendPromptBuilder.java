@@ -0,0 +1,231 @@
+package notfound.ballog.domain.user.service;
+
+import notfound.ballog.common.utils.HeatmapCodec;
+import notfound.ballog.domain.quarter.dto.GameReportStatDto;
+import notfound.ballog.domain.user.entity.User;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * AI 리포트 GPT 프롬프트 생성
+ * - 경기 기록 원본(160칸 히트맵 포함) 대신 경기당 한 줄의 파생 지표만 넣어서 입력 토큰을 줄임
+ *   1. 히트맵: 길이/폭 방향 3등분 구간별 체류 비율, 체류 위치 중심과 퍼짐(표준편차)
+ *   2. 스프린트: 횟수와 분당 스프린트
+ *   3. 심박수: 심박 예비량(HRR) 비율 = (심박수 - 안정 시 심박수) / (최대 심박수 - 안정 시 심박수)
+ * - 템플릿을 바꾸면 TEMPLATE_VERSION을 올림 (AI 리포트 캐시 키에 포함되어 이전 결과는 다시 계산)
+ */
+@Component
+public class AiRecommendPromptBuilder {
+
+    public static final String TEMPLATE_VERSION = "v2";
+
+    // 안정 시 심박수는 측정값이 없으므로 성인 평균으로 고정
+    static final int RESTING_HEART_RATE = 60;
+
+    // 생년월일이 없을 때 쓰는 최대 심박수
+    static final int DEFAULT_MAX_HEART_RATE = 190;
+
+    private static final int ZONES = 3;
+
+    private static final String HEADER = "경기|시간|거리|평균속도|최고속도|스프린트|분당스프린트|평균HRR|최고HRR|길이구간|폭구간|중심|퍼짐";
+
+    // 풋살 동호회 선수의 일반적인 경기 데이터 (v1 프롬프트에 원본으로 넣던 예시 경기)
+    private static final GameReportStatDto REFERENCE_REPORT = GameReportStatDto.builder()
+            .sprint(3)
+            .startTime(LocalTime.of(21, 36))
+            .endTime(LocalTime.of(21, 47))
+            .heatmap(HeatmapCodec.encode(List.of(
+                    List.of(4, 2, 2, 4, 2, 2, 0, 8, 10, 8), List.of(4, 2, 2, 6, 6, 4, 2, 0, 8, 0),
+                    List.of(2, 2, 6, 8, 8, 6, 2, 0, 0, 0), List.of(2, 4, 6, 8, 8, 6, 2, 0, 0, 0),
+                    List.of(4, 6, 8, 8, 10, 8, 2, 0, 0, 0), List.of(4, 4, 6, 8, 10, 8, 6, 0, 0, 0),
+                    List.of(2, 6, 8, 10, 10, 8, 6, 4, 0, 0), List.of(4, 4, 6, 8, 8, 6, 4, 2, 0, 0),
+                    List.of(2, 4, 6, 6, 8, 6, 6, 4, 0, 0), List.of(0, 4, 6, 6, 8, 6, 4, 2, 0, 0),
+                    List.of(2, 4, 4, 2, 6, 4, 2, 2, 0, 0), List.of(4, 6, 6, 4, 2, 2, 2, 2, 0, 0),
+                    List.of(2, 4, 4, 2, 4, 2, 0, 2, 0, 0), List.of(0, 2, 2, 0, 2, 2, 2, 0, 0, 0),
+                    List.of(0, 2, 0, 0, 0, 0, 2, 2, 0, 0), List.of(0, 0, 0, 0, 0, 0, 0, 2, 0, 0))))
+            .avgSpeed(2.5013624668121337)
+            .distance(0.4587200012207031)
+            .maxSpeed(10.321200370788574)
+            .avgHeartRate(151)
+            .maxHeartRate(191)
+            .build();
+
+    private static final String TEMPLATE = """
+            [System]
+            당신은 풋살 분석 전문가입니다. 경기 데이터로 선수의 플레이 스타일을 분석하고 발전 방향을 제시합니다.
+            경기 데이터는 한 줄에 한 경기이고 열은 다음과 같습니다.
+            - 시간: 경기 시간(분), 거리: 총 이동 거리(km), 평균속도/최고속도: km/h
+            - 스프린트: 스프린트 횟수, 분당스프린트: 분당 스프린트 횟수
+            - 평균HRR/최고HRR: 평균/최고 심박수의 심박 예비량 비율 (안정 시 %d, 최대 %d bpm 기준, 0~1)
+            - 길이구간: 히트맵 16행을 3등분한 구간별 체류 비율 (1행 쪽부터), 폭구간: 10열을 3등분한 구간별 체류 비율 (1열 쪽부터)
+            - 중심: 체류 위치 평균 (길이,폭 / 0~1), 퍼짐: 체류 위치 표준편차 (길이,폭 / 0~1, 클수록 넓게 움직임)
+            %s
+            기준|%s
+            기준은 풋살 동호회 선수의 일반적인 경기 데이터입니다.
+            [User]
+            유저 이름은 %s 입니다. 다음은 최근 %d경기 데이터입니다 (최신순).
+            %s
+            기준과 비교해서 아래 4가지를 응답 JSON 구조에 맞게 분석해주세요.
+            1. 활동량 및 포지셔닝 (구간 비율, 중심, 퍼짐, 이동 거리)
+            2. 스프린트 (횟수, 분당 스프린트)
+            3. 평균/최고 속도
+            4. 체력 (평균/최고 HRR)
+            그리고 이 데이터를 바탕으로 스타일이 비슷하고 롤모델로 삼을 만한 프로 축구 선수를 추천해주세요.
+            선수 이름은 네이버 검색 결과의 실제 선수명을 사용하세요.
+            해당 선수의 플레이 스타일, 유저의 어떤 데이터 때문에 추천했는지, 이 선수처럼 하려면 무엇을 보강하면 좋을지 알려주세요.
+            """;
+
+    /** 최근 경기 기록(최신순)으로 프롬프트 생성 */
+    public String build(User user, List<GameReportStatDto> gameReportList) {
+        int maxHeartRate = maxHeartRate(user.getBirthDate(), gameReportList, LocalDate.now());
+
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < gameReportList.size(); i++) {
+            rows.append(i + 1).append('|').append(featureRow(gameReportList.get(i), maxHeartRate)).append('\n');
+        }
+
+        return TEMPLATE.formatted(RESTING_HEART_RATE, maxHeartRate, HEADER,
+                featureRow(REFERENCE_REPORT, maxHeartRate),
+                user.getNickname(), gameReportList.size(), rows.toString().stripTrailing());
+    }
+
+    /** 경기 한 줄 (HEADER의 '경기' 다음 열부터) */
+    static String featureRow(GameReportStatDto report, int maxHeartRate) {
+        Double minutes = durationMinutes(report.getStartTime(), report.getEndTime());
+        Double sprintPerMinute = report.getSprint() != null && minutes != null && minutes > 0
+                ? report.getSprint() / minutes
+                : null;
+
+        byte[] heatmap = report.getHeatmap() != null ? report.getHeatmap() : new byte[HeatmapCodec.SIZE];
+        double[] zones = zoneShares(heatmap);
+        double[] position = centroidAndSpread(heatmap);
+
+        return String.join("|",
+                format(minutes),
+                format(report.getDistance()),
+                format(report.getAvgSpeed()),
+                format(report.getMaxSpeed()),
+                report.getSprint() != null ? report.getSprint().toString() : "-",
+                format(sprintPerMinute),
+                format(heartRateReserve(report.getAvgHeartRate(), maxHeartRate)),
+                format(heartRateReserve(report.getMaxHeartRate(), maxHeartRate)),
+                format(zones[0]) + "," + format(zones[1]) + "," + format(zones[2]),
+                format(zones[3]) + "," + format(zones[4]) + "," + format(zones[5]),
+                format(position[0]) + "," + format(position[1]),
+                format(position[2]) + "," + format(position[3]));
+    }
+
+    /**
+     * 구간별 체류 비율 [길이 1~3구간, 폭 1~3구간]
+     * - 칸 중심 위치로 구간을 나눠서 양 끝 구간 크기를 같게 맞춤 (16행 = 5/6/5, 10열 = 3/4/3)
+     */
+    static double[] zoneShares(byte[] heatmap) {
+        double[] shares = new double[ZONES * 2];
+        double total = 0;
+        for (int row = 0; row < HeatmapCodec.ROWS; row++) {
+            for (int col = 0; col < HeatmapCodec.COLS; col++) {
+                int value = HeatmapCodec.get(heatmap, row, col);
+                shares[zoneOf(row, HeatmapCodec.ROWS)] += value;
+                shares[ZONES + zoneOf(col, HeatmapCodec.COLS)] += value;
+                total += value;
+            }
+        }
+
+        if (total > 0) {
+            for (int i = 0; i < shares.length; i++) {
+                shares[i] /= total;
+            }
+        }
+        return shares;
+    }
+
+    private static int zoneOf(int index, int size) {
+        return (int) ((index + 0.5) * ZONES / size);
+    }
+
+    /** 체류 위치 [길이 중심, 폭 중심, 길이 표준편차, 폭 표준편차] (칸 중심 기준 0~1, 히트맵이 비어 있으면 0) */
+    static double[] centroidAndSpread(byte[] heatmap) {
+        double total = 0;
+        double rowSum = 0;
+        double colSum = 0;
+        double rowSquareSum = 0;
+        double colSquareSum = 0;
+        for (int row = 0; row < HeatmapCodec.ROWS; row++) {
+            double y = (row + 0.5) / HeatmapCodec.ROWS;
+            for (int col = 0; col < HeatmapCodec.COLS; col++) {
+                double x = (col + 0.5) / HeatmapCodec.COLS;
+                int value = HeatmapCodec.get(heatmap, row, col);
+                total += value;
+                rowSum += value * y;
+                colSum += value * x;
+                rowSquareSum += value * y * y;
+                colSquareSum += value * x * x;
+            }
+        }
+
+        if (total == 0) {
+            return new double[4];
+        }
+        double rowMean = rowSum / total;
+        double colMean = colSum / total;
+        return new double[]{
+                rowMean,
+                colMean,
+                Math.sqrt(Math.max(0, rowSquareSum / total - rowMean * rowMean)),
+                Math.sqrt(Math.max(0, colSquareSum / total - colMean * colMean))
+        };
+    }
+
+    /** 경기 시간(분), 자정을 넘긴 경기는 다음 날 종료로 계산 */
+    static Double durationMinutes(LocalTime startTime, LocalTime endTime) {
+        if (startTime == null || endTime == null) {
+            return null;
+        }
+        long seconds = Duration.between(startTime, endTime).getSeconds();
+        if (seconds < 0) {
+            seconds += Duration.ofDays(1).getSeconds();
+        }
+        return seconds / 60.0;
+    }
+
+    static Double heartRateReserve(Integer heartRate, int maxHeartRate) {
+        if (heartRate == null) {
+            return null;
+        }
+        return Math.max(0, (double) (heartRate - RESTING_HEART_RATE) / (maxHeartRate - RESTING_HEART_RATE));
+    }
+
+    /**
+     * 최대 심박수: 생년월일이 있으면 208 - 0.7 * 나이(Tanaka 공식), 없으면 DEFAULT_MAX_HEART_RATE
+     * - 경기 중 측정된 최고 심박수가 더 높으면 그 값을 사용
+     */
+    static int maxHeartRate(LocalDate birthDate, List<GameReportStatDto> gameReportList, LocalDate today) {
+        int maxHeartRate = birthDate != null
+                ? (int) Math.round(208 - 0.7 * Period.between(birthDate, today).getYears())
+                : DEFAULT_MAX_HEART_RATE;
+
+        for (GameReportStatDto report : gameReportList) {
+            if (report.getMaxHeartRate() != null) {
+                maxHeartRate = Math.max(maxHeartRate, report.getMaxHeartRate());
+            }
+        }
+        return Math.max(maxHeartRate, RESTING_HEART_RATE + 1);
+    }
+
+    // 소수 둘째 자리까지, 끝의 0은 생략 (값이 없으면 -)
+    private static String format(Double value) {
+        if (value == null) {
+            return "-";
+        }
+        String formatted = String.format(Locale.ROOT, "%.2f", value);
+        formatted = formatted.replaceAll("0+$", "");
+        return formatted.endsWith(".") ? formatted.substring(0, formatted.length() - 1) : formatted;
+    }
+
+}
@@ -0,0 +1,407 @@
+package notfound.ballog.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.common.response.BaseResponseStatus;
+import notfound.ballog.domain.quarter.dto.GameReportStatDto;
+import notfound.ballog.domain.quarter.repository.GameReportRepository;
+import notfound.ballog.domain.user.entity.User;
+import notfound.ballog.domain.user.repository.UserRepository;
+import notfound.ballog.domain.user.response.AiRecommendResponse;
+import notfound.ballog.exception.InternalServerException;
+import notfound.ballog.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI 리포트(추천 선수) 조회
+ * - 캐시 키는 프롬프트 템플릿 버전과 최근 5경기 기록 ID의 해시 (aiRecommend:{userId}:{hash})
+ *   입력이 같으면 몇 주가 지나도 캐시를 그대로 쓰고, 경기 기록이 새로 등록되면 키가 바뀌어 다시 계산
+ * - 유저별 마지막 해시(aiRecommend:latest:{userId})를 따로 두고, 경기 기록 등록 시 이전 결과를 바로 삭제
+ * - 캐시에 없을 때 같은 유저 요청이 겹쳐도 GPT 호출은 한 번만 하도록 묶음 (single-flight)
+ *   1. 같은 서버: 진행 중인 계산의 CompletableFuture를 함께 기다림
+ *   2. 다른 서버: Redis SET NX lease를 잡은 서버만 계산하고 나머지는 캐시가 채워질 때까지 폴링
+ * - GPT 호출이 수 초 걸리므로 클래스 단위 트랜잭션은 걸지 않음 (조회마다 짧게 커넥션 사용)
+ */
+@Slf4j
+@Service
+public class AiRecommendService {
+
+    private static final String CACHE_KEY_PREFIX = "aiRecommend:";
+
+    private static final String LATEST_KEY_PREFIX = "aiRecommend:latest:";
+
+    private static final String LEASE_KEY_PREFIX = "aiRecommend:lease:";
+
+    // 프롬프트에 넣는 최근 경기 수
+    private static final int PROMPT_REPORT_COUNT = 5;
+
+    private final UserRepository userRepository;
+
+    private final GameReportRepository gameReportRepository;
+
+    private final OpenAIService openAIService;
+
+    private final PlayerImageService playerImageService;
+
+    private final AiRecommendPromptBuilder aiRecommendPromptBuilder;
+
+    private final RedisTemplate<String, AiRecommendResponse> aiRecommendRedisTemplate;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    // 캐시 키 -> 이 서버에서 진행 중인 계산
+    private final Map<String, CompletableFuture<AiRecommendResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Duration cacheTtl;
+
+    private final Duration leaseTtl;
+
+    private final Duration waitTimeout;
+
+    private final long pollIntervalMs;
+
+    private final Counter hitCounter;
+
+    private final Counter computedCounter;
+
+    private final Counter coalescedCounter;
+
+    private final Counter remoteWaitCounter;
+
+    public AiRecommendService(UserRepository userRepository,
+                              GameReportRepository gameReportRepository,
+                              OpenAIService openAIService,
+                              PlayerImageService playerImageService,
+                              AiRecommendPromptBuilder aiRecommendPromptBuilder,
+                              RedisTemplate<String, AiRecommendResponse> aiRecommendRedisTemplate,
+                              StringRedisTemplate redisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${ai-recommend.cache.ttl-days:30}") long cacheTtlDays,
+                              @Value("${ai-recommend.single-flight.lease-ms:90000}") long leaseMs,
+                              @Value("${ai-recommend.single-flight.wait-timeout-ms:90000}") long waitTimeoutMs,
+                              @Value("${ai-recommend.single-flight.poll-interval-ms:500}") long pollIntervalMs) {
+        this.userRepository = userRepository;
+        this.gameReportRepository = gameReportRepository;
+        this.openAIService = openAIService;
+        this.playerImageService = playerImageService;
+        this.aiRecommendPromptBuilder = aiRecommendPromptBuilder;
+        this.aiRecommendRedisTemplate = aiRecommendRedisTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheTtl = Duration.ofDays(cacheTtlDays);
+        this.leaseTtl = Duration.ofMillis(leaseMs);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+        this.pollIntervalMs = pollIntervalMs;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.computedCounter = requestCounter(meterRegistry, "computed");
+        this.coalescedCounter = requestCounter(meterRegistry, "coalesced");
+        this.remoteWaitCounter = requestCounter(meterRegistry, "remote_wait");
+    }
+
+    // hit: 캐시 적중, computed: GPT 호출, coalesced: 같은 서버의 계산을 기다림, remote_wait: 다른 서버의 계산을 기다림
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai_recommend.requests")
+                .description("AI 리포트 요청 처리 방식")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public AiRecommendResponse getAiRecommend(UUID userId) {
+        // 프롬프트에 들어갈 경기 기록 ID만 먼저 조회해서 캐시 키 계산
+        List<Integer> reportIds = findPromptReportIds(userId);
+
+        // 캐싱된 데이터가 있는지 조회
+        String inputHash = inputHash(reportIds);
+        String cacheKey = cacheKey(userId, inputHash);
+
+        AiRecommendResponse cachedResponse = findCached(userId, inputHash);
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+
+        // 이 서버에서 이미 계산 중이면 그 결과를 기다림
+        CompletableFuture<AiRecommendResponse> flight = new CompletableFuture<>();
+        CompletableFuture<AiRecommendResponse> existing = inFlight.putIfAbsent(cacheKey, flight);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        try {
+            AiRecommendResponse result = computeOnce(userId, reportIds, inputHash, cacheKey);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, flight);
+        }
+    }
+
+    /** 서버 간 lease를 잡은 경우에만 계산, 못 잡으면 다른 서버가 캐시를 채울 때까지 대기 */
+    private AiRecommendResponse computeOnce(UUID userId, List<Integer> reportIds, String inputHash, String cacheKey) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        boolean waited = false;
+
+        while (true) {
+            String token = tryAcquireLease(userId, inputHash);
+            if (token != null) {
+                try {
+                    // lease를 잡기 직전에 다른 서버가 끝냈을 수 있으므로 다시 확인
+                    AiRecommendResponse cachedResponse = aiRecommendRedisTemplate.opsForValue().get(cacheKey);
+                    if (cachedResponse != null) {
+                        if (!waited) {
+                            remoteWaitCounter.increment();
+                        }
+                        return cachedResponse;
+                    }
+
+                    computedCounter.increment();
+                    AiRecommendResponse result = computeAiRecommend(userId, reportIds);
+                    store(userId, inputHash, result);
+                    return result;
+                } finally {
+                    releaseLease(userId, inputHash, token);
+                }
+            }
+
+            // 다른 서버가 계산 중 (실패해서 lease가 풀리면 다음 반복에서 이 서버가 계산)
+            if (!waited) {
+                remoteWaitCounter.increment();
+                waited = true;
+            }
+            if (System.nanoTime() > deadline) {
+                log.warn("다른 서버의 AI 리포트 생성 대기 시간 초과 - userId: {}", userId);
+                throw new InternalServerException(BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR);
+            }
+            sleep(pollIntervalMs);
+
+            AiRecommendResponse cachedResponse = aiRecommendRedisTemplate.opsForValue().get(cacheKey);
+            if (cachedResponse != null) {
+                return cachedResponse;
+            }
+        }
+    }
+
+    private AiRecommendResponse await(CompletableFuture<AiRecommendResponse> flight) {
+        try {
+            return flight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 계산한 요청과 같은 예외(GAME_REPORT_NOT_FOUND 등)로 응답
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new InternalServerException(BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR);
+        } catch (TimeoutException e) {
+            throw new InternalServerException(BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException(BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException(BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR);
+        }
+    }
+
+    /** 최근 경기 기록으로 만든 AI 리포트가 이미 캐시에 있는지 (경기 기록이 없으면 만들 게 없으므로 true) */
+    public boolean isUpToDate(UUID userId) {
+        List<Integer> reportIds = gameReportRepository.findRecentReportIdsByUserId(
+                userId, PageRequest.of(0, PROMPT_REPORT_COUNT));
+
+        if (reportIds.isEmpty()) {
+            return true;
+        }
+        return Boolean.TRUE.equals(aiRecommendRedisTemplate.hasKey(cacheKey(userId, inputHash(reportIds))));
+    }
+
+    /**
+     * 경기 기록이 새로 등록된 유저의 이전 AI 리포트 삭제 (트랜잭션 안이면 커밋 이후)
+     * - 새 기록이 들어오면 캐시 키가 바뀌므로 이전 결과는 더 이상 읽히지 않음, TTL까지 남겨두지 않고 바로 정리
+     */
+    public void evictAiRecommend(UUID userId) {
+        Runnable action = () -> {
+            String latestKey = LATEST_KEY_PREFIX + userId;
+            String latestHash = redisTemplate.opsForValue().get(latestKey);
+            if (latestHash != null) {
+                redisTemplate.delete(List.of(cacheKey(userId, latestHash), latestKey));
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /** 프롬프트에 들어갈 최근 경기 기록 ID (최신순, 없으면 GAME_REPORT_NOT_FOUND) */
+    List<Integer> findPromptReportIds(UUID userId) {
+        List<Integer> reportIds = gameReportRepository.findRecentReportIdsByUserId(
+                userId, PageRequest.of(0, PROMPT_REPORT_COUNT));
+
+        if (reportIds.isEmpty()) {
+            throw new NotFoundException(BaseResponseStatus.GAME_REPORT_NOT_FOUND);
+        }
+        return reportIds;
+    }
+
+    AiRecommendResponse findCached(UUID userId, String inputHash) {
+        AiRecommendResponse cachedResponse = aiRecommendRedisTemplate.opsForValue().get(cacheKey(userId, inputHash));
+        if (cachedResponse != null) {
+            hitCounter.increment();
+        }
+        return cachedResponse;
+    }
+
+    /** 서버 간 계산 lease 획득 (획득하면 해제용 토큰, 다른 요청이 계산 중이면 null) */
+    String tryAcquireLease(UUID userId, String inputHash) {
+        String token = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey(userId, inputHash), token, leaseTtl))
+                ? token
+                : null;
+    }
+
+    void releaseLease(UUID userId, String inputHash, String token) {
+        String leaseKey = leaseKey(userId, inputHash);
+        if (token.equals(redisTemplate.opsForValue().get(leaseKey))) {
+            redisTemplate.delete(leaseKey);
+        }
+    }
+
+    void recordComputed() {
+        computedCounter.increment();
+    }
+
+    // 결과 저장 후 유저별 마지막 해시 갱신, 다른 입력으로 만든 이전 결과는 삭제
+    void store(UUID userId, String inputHash, AiRecommendResponse result) {
+        aiRecommendRedisTemplate.opsForValue().set(cacheKey(userId, inputHash), result, cacheTtl);
+
+        String previousHash = redisTemplate.opsForValue().getAndSet(LATEST_KEY_PREFIX + userId, inputHash);
+        redisTemplate.expire(LATEST_KEY_PREFIX + userId, cacheTtl);
+        if (previousHash != null && !previousHash.equals(inputHash)) {
+            aiRecommendRedisTemplate.delete(cacheKey(userId, previousHash));
+        }
+    }
+
+    private static String cacheKey(UUID userId, String inputHash) {
+        return CACHE_KEY_PREFIX + userId + ":" + inputHash;
+    }
+
+    private static String leaseKey(UUID userId, String inputHash) {
+        return LEASE_KEY_PREFIX + userId + ":" + inputHash;
+    }
+
+    // 프롬프트 템플릿 버전 + 경기 기록 ID 목록(최신순) SHA-256 앞 16자리
+    static String inputHash(List<Integer> reportIds) {
+        String joined = AiRecommendPromptBuilder.TEMPLATE_VERSION + ":"
+                + reportIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 최근 5경기 데이터로 GPT 분석 + 추천 선수 이미지 조회 */
+    @SuppressWarnings("unchecked")
+    private AiRecommendResponse computeAiRecommend(UUID userId, List<Integer> reportIds) {
+        String prompt = buildPrompt(userId, reportIds);
+
+        // AI 호출
+        Map<String, Object> resp = openAIService.getCompletionFromGPT(prompt);
+
+        // recommendedPlayer 추출
+        Map<String, Object> recommendedPlayer = (Map<String, Object>) resp.get("recommendedPlayer");
+
+//        // Wiki 이미지 크롤링(cloudFlare에 막힘)
+//        String wikiUrl = (String) recommendedPlayer.get("namuwiki");
+
+//        if (wikiUrl != null && !wikiUrl.isEmpty()) {
+//            String imageUrl = wikiCrawlService.getPlayerImageUrl(wikiUrl);
+//        }
+
+        // 선수 이미지 조회 (캐시에 없으면 네이버 크롤링)
+        String imageUrl = playerImageService.getPlayerImageUrl(recommendedPlayer.get("name").toString());
+
+        applyPlayerImage(recommendedPlayer, imageUrl);
+
+        // gpt 분석 결과
+        return toResponse(resp);
+    }
+
+    /** 네이버에서 찾은 선수 이미지로 검색 링크 대체 */
+    static void applyPlayerImage(Map<String, Object> recommendedPlayer, String imageUrl) {
+        if (imageUrl != null) {
+            recommendedPlayer.remove("naver");
+            recommendedPlayer.put("imageUrl", imageUrl);
+        }
+    }
+
+    AiRecommendResponse toResponse(Map<String, Object> resp) {
+        return objectMapper.convertValue(resp, AiRecommendResponse.class);
+    }
+
+    /** 최근 경기 데이터로 GPT 프롬프트 생성 */
+    String buildPrompt(UUID userId, List<Integer> reportIds) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException(BaseResponseStatus.USER_NOT_FOUND));
+
+        // 캐시 키를 만든 경기 기록 그대로, 최신순으로 사용
+        Map<Integer, GameReportStatDto> reportMap = gameReportRepository.findStatsByReportIdIn(reportIds).stream()
+                .collect(Collectors.toMap(GameReportStatDto::getReportId, Function.identity()));
+
+        List<GameReportStatDto> gameReportList = reportIds.stream()
+                .map(reportMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (gameReportList.isEmpty()) {
+            throw new NotFoundException(BaseResponseStatus.GAME_REPORT_NOT_FOUND);
+        }
+
+        return aiRecommendPromptBuilder.build(user, gameReportList);
+    }
+
+}
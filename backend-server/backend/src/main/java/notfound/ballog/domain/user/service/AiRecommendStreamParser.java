@@ -0,0 +1,125 @@
+package notfound.ballog.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GPT가 조금씩 보내는 AI 리포트 JSON을 받는 대로 파싱 (Jackson non-blocking 파서)
+ * - 최상위 값(heatmapAnalysis 등)은 값이 끝나는 즉시 onField
+ * - 최상위 객체(recommendedPlayer) 안의 값은 끝나는 즉시 onNestedField, 객체가 끝나면 onObject
+ * - 더 깊은 값(배열 등)은 응답 구조에 없으므로 무시
+ * - 스레드 안전하지 않음 (스트림 하나당 하나씩 생성)
+ */
+class AiRecommendStreamParser {
+
+    interface Listener {
+
+        void onField(String field, Object value);
+
+        void onNestedField(String parentField, String field, Object value);
+
+        void onObject(String field, Map<String, Object> value);
+
+    }
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    private final Listener listener;
+
+    // 지금까지 완성된 최상위 값
+    private final Map<String, Object> result = new LinkedHashMap<>();
+
+    // 0: 루트 밖, 1: 최상위 객체 안, 2: recommendedPlayer 같은 하위 객체 안
+    private int depth;
+
+    private String field;
+
+    private String nestedField;
+
+    private Map<String, Object> nestedObject;
+
+    AiRecommendStreamParser(Listener listener) throws IOException {
+        this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.listener = listener;
+    }
+
+    /** GPT 응답 조각 추가 (조각은 문자 단위로 잘려서 오므로 UTF-8 바이트가 중간에 끊기지 않음) */
+    void feed(String chunk) throws IOException {
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        drain();
+    }
+
+    /** 스트림 끝, 완성된 최상위 값 반환 */
+    Map<String, Object> finish() throws IOException {
+        feeder.endOfInput();
+        drain();
+        return result;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token);
+        }
+    }
+
+    private void handle(JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT, START_ARRAY -> {
+                depth++;
+                if (depth == 2 && token == JsonToken.START_OBJECT) {
+                    nestedObject = new LinkedHashMap<>();
+                }
+            }
+            case END_OBJECT, END_ARRAY -> {
+                if (depth == 2 && nestedObject != null) {
+                    result.put(field, nestedObject);
+                    listener.onObject(field, nestedObject);
+                    nestedObject = null;
+                }
+                depth--;
+            }
+            case FIELD_NAME -> {
+                if (depth == 1) {
+                    field = parser.currentName();
+                } else if (depth == 2) {
+                    nestedField = parser.currentName();
+                }
+            }
+            default -> {
+                Object value = scalarValue(token);
+                if (depth == 1) {
+                    result.put(field, value);
+                    listener.onField(field, value);
+                } else if (depth == 2 && nestedObject != null) {
+                    nestedObject.put(nestedField, value);
+                    listener.onNestedField(field, nestedField, value);
+                }
+            }
+        }
+    }
+
+    private Object scalarValue(JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            default -> null;
+        };
+    }
+
+}
@@ -0,0 +1,293 @@
+package notfound.ballog.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.common.response.BaseResponse;
+import notfound.ballog.common.response.BaseResponseStatus;
+import notfound.ballog.domain.user.response.AiRecommendResponse;
+import notfound.ballog.exception.InternalServerException;
+import notfound.ballog.exception.NotFoundException;
+import notfound.ballog.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AI 리포트 스트리밍 (text/event-stream)
+ * - GPT를 스트리밍 모드로 호출하고, 응답 JSON의 각 분석 항목이 완성되는 즉시 같은 이름의 이벤트로 보냄
+ * - recommendedPlayer.name이 나오는 순간 선수 이미지 조회를 시작해서 선수 정보가 끝날 때 이미지까지 붙여서 보냄
+ * - 마지막에 전체 결과를 done 이벤트로 보내고 AiRecommendService와 같은 캐시에 저장
+ * - 캐시가 있거나 다른 요청이 이미 생성 중이면 결과를 한 번에 보냄 (GPT 중복 호출 없음)
+ * - 실패하면 BaseResponse 형식의 error 이벤트를 보내고 종료
+ */
+@Slf4j
+@Service
+public class AiRecommendStreamService {
+
+    private static final String RECOMMENDED_PLAYER = "recommendedPlayer";
+
+    private static final String PLAYER_NAME = "name";
+
+    private static final String DONE_EVENT = "done";
+
+    private static final String ERROR_EVENT = "error";
+
+    private final AiRecommendService aiRecommendService;
+
+    private final OpenAIService openAIService;
+
+    private final PlayerImageService playerImageService;
+
+    private final long timeoutMs;
+
+    public AiRecommendStreamService(AiRecommendService aiRecommendService,
+                                    OpenAIService openAIService,
+                                    PlayerImageService playerImageService,
+                                    @Value("${ai-recommend.stream.timeout-ms:85000}") long timeoutMs,
+                                    @Value("${ai-recommend.single-flight.lease-ms:90000}") long leaseMs) {
+        // 연결이 lease보다 오래 남으면 lease가 풀린 뒤 다른 서버가 같은 리포트로 GPT를 다시 호출함
+        if (timeoutMs >= leaseMs) {
+            throw new IllegalStateException("ai-recommend.stream.timeout-ms는 ai-recommend.single-flight.lease-ms보다 짧아야 합니다.");
+        }
+        this.aiRecommendService = aiRecommendService;
+        this.openAIService = openAIService;
+        this.playerImageService = playerImageService;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter streamAiRecommend(UUID userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+
+        try {
+            List<Integer> reportIds = aiRecommendService.findPromptReportIds(userId);
+            String inputHash = AiRecommendService.inputHash(reportIds);
+
+            AiRecommendResponse cachedResponse = aiRecommendService.findCached(userId, inputHash);
+            if (cachedResponse != null) {
+                sendAll(emitter, cachedResponse);
+                return emitter;
+            }
+
+            String leaseToken = aiRecommendService.tryAcquireLease(userId, inputHash);
+            if (leaseToken == null) {
+                // 다른 요청이 생성 중이면 single-flight 경로로 결과를 기다렸다가 한 번에 보냄
+                Mono.fromCallable(() -> aiRecommendService.getAiRecommend(userId))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .subscribe(result -> sendAll(emitter, result), e -> sendError(emitter, e));
+                return emitter;
+            }
+
+            StreamSession session = new StreamSession(userId, inputHash, leaseToken, emitter);
+            try {
+                aiRecommendService.recordComputed();
+                session.start(aiRecommendService.buildPrompt(userId, reportIds));
+            } catch (RuntimeException | IOException e) {
+                session.fail(e);
+            }
+        } catch (RuntimeException e) {
+            sendError(emitter, e);
+        }
+        return emitter;
+    }
+
+    // 캐시된 결과를 스트리밍과 같은 이벤트 순서로 보냄
+    private void sendAll(SseEmitter emitter, AiRecommendResponse response) {
+        try {
+            send(emitter, "heatmapAnalysis", response.getHeatmapAnalysis());
+            send(emitter, "sprintAnalysis", response.getSprintAnalysis());
+            send(emitter, "speedAnalysis", response.getSpeedAnalysis());
+            send(emitter, "staminaAnalysis", response.getStaminaAnalysis());
+            send(emitter, RECOMMENDED_PLAYER, response.getRecommendedPlayer());
+            send(emitter, "conclusion", response.getConclusion());
+            send(emitter, DONE_EVENT, response);
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendError(SseEmitter emitter, Throwable e) {
+        BaseResponseStatus status = statusOf(e);
+        log.error("AI 리포트 스트리밍 실패 - {}", status, e);
+        try {
+            send(emitter, ERROR_EVENT, BaseResponse.error(status));
+            emitter.complete();
+        } catch (IOException ioException) {
+            emitter.completeWithError(ioException);
+        }
+    }
+
+    private static void send(SseEmitter emitter, String name, Object data) throws IOException {
+        if (data != null) {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        }
+    }
+
+    private static BaseResponseStatus statusOf(Throwable e) {
+        if (e instanceof InternalServerException internalServerException) {
+            return internalServerException.getStatus();
+        }
+        if (e instanceof NotFoundException notFoundException) {
+            return notFoundException.getStatus();
+        }
+        if (e instanceof ValidationException validationException) {
+            return validationException.getStatus();
+        }
+        return BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR;
+    }
+
+    /** GPT 스트림 하나를 받아서 SSE로 보내는 상태 (끝나거나, 실패하거나, 끊기면 GPT 스트림 중단과 lease 해제를 한 번만) */
+    private class StreamSession implements AiRecommendStreamParser.Listener {
+
+        private final UUID userId;
+
+        private final String inputHash;
+
+        private final String leaseToken;
+
+        private final SseEmitter emitter;
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private AiRecommendStreamParser parser;
+
+        private volatile Disposable subscription;
+
+        private CompletableFuture<String> imageUrl = CompletableFuture.completedFuture(null);
+
+        private CompletableFuture<Void> playerSent = CompletableFuture.completedFuture(null);
+
+        StreamSession(UUID userId, String inputHash, String leaseToken, SseEmitter emitter) {
+            this.userId = userId;
+            this.inputHash = inputHash;
+            this.leaseToken = leaseToken;
+            this.emitter = emitter;
+        }
+
+        void start(String prompt) throws IOException {
+            parser = new AiRecommendStreamParser(this);
+
+            // 클라이언트가 끊거나 시간이 초과되면 GPT 스트림도 중단
+            emitter.onTimeout(this::cancel);
+            emitter.onError(e -> cancel());
+
+            subscription = openAIService.streamCompletionFromGPT(prompt)
+                    .subscribe(this::onChunk, this::fail, this::complete);
+            // subscribe가 반환되기 전에 끝난 경우 (close에서 아직 subscription을 못 봄)
+            if (closed.get()) {
+                subscription.dispose();
+            }
+        }
+
+        private void onChunk(String chunk) {
+            try {
+                parser.feed(chunk);
+            } catch (IOException e) {
+                fail(new InternalServerException(BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR));
+            }
+        }
+
+        @Override
+        public void onField(String field, Object value) {
+            sendOrCancel(field, value);
+        }
+
+        @Override
+        public void onNestedField(String parentField, String field, Object value) {
+            // 선수 이름이 나오자마자 이미지 조회 시작 (나머지 선수 정보가 생성되는 동안 조회)
+            if (RECOMMENDED_PLAYER.equals(parentField) && PLAYER_NAME.equals(field) && value != null) {
+                imageUrl = Mono.fromCallable(() -> playerImageService.getPlayerImageUrl(value.toString()))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> Mono.empty())
+                        .toFuture();
+            }
+        }
+
+        @Override
+        public void onObject(String field, Map<String, Object> value) {
+            if (!RECOMMENDED_PLAYER.equals(field)) {
+                sendOrCancel(field, value);
+                return;
+            }
+            playerSent = imageUrl.thenAccept(url -> {
+                AiRecommendService.applyPlayerImage(value, url);
+                sendOrCancel(field, value);
+            });
+        }
+
+        private void complete() {
+            if (closed.get()) {
+                return;
+            }
+            Map<String, Object> result;
+            try {
+                result = new LinkedHashMap<>(parser.finish());
+            } catch (IOException e) {
+                fail(new InternalServerException(BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR));
+                return;
+            }
+
+            // 선수 이미지 조회가 끝나야 전체 결과 확정
+            playerSent.whenComplete((ignored, e) -> {
+                if (closed.get()) {
+                    return;
+                }
+                try {
+                    AiRecommendResponse response = aiRecommendService.toResponse(result);
+                    aiRecommendService.store(userId, inputHash, response);
+                    send(emitter, DONE_EVENT, response);
+                    emitter.complete();
+                } catch (Exception exception) {
+                    fail(exception);
+                    return;
+                }
+                close();
+            });
+        }
+
+        // 이미 끝난 세션이면 무시, 아니면 GPT 스트림을 중단하고 error 이벤트를 보냄
+        void fail(Throwable e) {
+            if (close()) {
+                sendError(emitter, e);
+            }
+        }
+
+        private void sendOrCancel(String name, Object data) {
+            try {
+                send(emitter, name, data);
+            } catch (IOException e) {
+                // 클라이언트 연결이 끊김
+                cancel();
+            }
+        }
+
+        private void cancel() {
+            close();
+        }
+
+        // 처음 끝내는 경로에서만 true (GPT 스트림 중단, lease 해제)
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            Disposable current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+            aiRecommendService.releaseLease(userId, inputHash, leaseToken);
+            return true;
+        }
+
+    }
+
+}
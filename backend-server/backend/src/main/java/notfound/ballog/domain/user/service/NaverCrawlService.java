@@ -31,47 +31,56 @@ public class NaverCrawlService {
      * @return 이미지 URL 또는 이외(null)일 경우 null
      */
     public String getPlayerImageUrl(String playerName) {
-        log.info("▶ 네이버 검색어: {}", playerName);
         try {
-            // 1) 검색어 인코딩
-            String encoded = URLEncoder.encode(playerName, StandardCharsets.UTF_8);
-            String url = String.format(NAVER_SEARCH_URL, encoded);
-
-            // 2) 페이지 요청 (timeout 5초, referrer 포함)
-            Document doc = Jsoup.connect(url)
-//                    .userAgent(USER_AGENT)
-                    .referrer("https://search.naver.com")
-                    .timeout(5_000)
-                    .get();
+            return fetchPlayerImageUrl(playerName);
+        } catch (IOException e) {
+            log.error("네이버 이미지 크롤링 중 오류 발생: {}", e.getMessage(), e);
+            return null;
+        }
+    }
 
-            // 3) 인물 박스 영역 내 이미지 선택
-            //    (section.case_normal._au_people_content_wrap img._img)
-            Element img = doc.selectFirst(
-                    "section.case_normal._au_people_content_wrap img._img"
-            );
+    /**
+     * getPlayerImageUrl과 같지만 요청 실패(timeout, 차단 등)는 예외로 던짐
+     * - 이미지가 없는 선수(null)와 네이버 오류를 구분해서 캐시하는 PlayerImageService에서 사용
+     */
+    public String fetchPlayerImageUrl(String playerName) throws IOException {
+        log.info("▶ 네이버 검색어: {}", playerName);
 
-            if (img == null) {
-                log.warn("네이버 검색 결과에서 이미지 태그를 찾지 못했습니다: {}", playerName);
-                return null;
-            }
+        // 1) 검색어 인코딩
+        String encoded = URLEncoder.encode(playerName, StandardCharsets.UTF_8);
+        String url = String.format(NAVER_SEARCH_URL, encoded);
 
-            // 4) data-src (지연 로딩) 우선, 없으면 src 사용
-            String dataSrc = img.attr("data-src");
-            if (!dataSrc.isEmpty()) {
-                return normalizeUrl(dataSrc);
-            }
+        // 2) 페이지 요청 (timeout 5초, referrer 포함)
+        Document doc = Jsoup.connect(url)
+//                .userAgent(USER_AGENT)
+                .referrer("https://search.naver.com")
+                .timeout(5_000)
+                .get();
 
-            String src = img.attr("src");
-            if (!src.isEmpty()) {
-                return normalizeUrl(src);
-            }
+        // 3) 인물 박스 영역 내 이미지 선택
+        //    (section.case_normal._au_people_content_wrap img._img)
+        Element img = doc.selectFirst(
+                "section.case_normal._au_people_content_wrap img._img"
+        );
 
-            log.warn("이미지 URL 속성(data-src/src)이 비어있습니다: {}", playerName);
-            return null;
-        } catch (IOException e) {
-            log.error("네이버 이미지 크롤링 중 오류 발생: {}", e.getMessage(), e);
+        if (img == null) {
+            log.warn("네이버 검색 결과에서 이미지 태그를 찾지 못했습니다: {}", playerName);
             return null;
         }
+
+        // 4) data-src (지연 로딩) 우선, 없으면 src 사용
+        String dataSrc = img.attr("data-src");
+        if (!dataSrc.isEmpty()) {
+            return normalizeUrl(dataSrc);
+        }
+
+        String src = img.attr("src");
+        if (!src.isEmpty()) {
+            return normalizeUrl(src);
+        }
+
+        log.warn("이미지 URL 속성(data-src/src)이 비어있습니다: {}", playerName);
+        return null;
     }
 
     /**
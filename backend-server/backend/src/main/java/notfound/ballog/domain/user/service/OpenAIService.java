@@ -1,16 +1,22 @@
 package notfound.ballog.domain.user.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notfound.ballog.common.response.BaseResponseStatus;
 import notfound.ballog.exception.InternalServerException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
 import java.util.*;
 
@@ -19,8 +25,12 @@ import java.util.*;
 @RequiredArgsConstructor
 public class OpenAIService {
 
+    private static final String STREAM_DONE = "[DONE]";
+
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    // 파라미터 이름으로 WebClientConfig.openAiWebClient 주입
+    private final WebClient openAiWebClient;
 
     @Value("${OPENAI_API_KEY}")
     private String apiKey;
@@ -53,6 +63,43 @@ public class OpenAIService {
         }
     }
 
+    /**
+     * 스트리밍 모드로 호출해서 응답 본문(JSON 문자열)을 생성되는 조각 단위로 반환
+     * - OpenAI는 SSE로 choices[0].delta.content 조각을 보내고 마지막에 [DONE]을 보냄
+     */
+    public Flux<String> streamCompletionFromGPT(String prompt) {
+        Map<String, Object> requestBody = createRequestBody(createStructuredPrompt(prompt));
+        requestBody.put("stream", true);
+
+        return openAiWebClient.post()
+                .uri(apiUrl)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .map(event -> Optional.ofNullable(event.data()).orElse(""))
+                .takeWhile(data -> !STREAM_DONE.equals(data.trim()))
+                .filter(data -> !data.isBlank())
+                .map(this::extractDeltaContent)
+                .filter(content -> !content.isEmpty())
+                .onErrorMap(e -> !(e instanceof InternalServerException), e -> {
+                    log.error("OpenAI 스트리밍 호출 중 오류 발생", e);
+                    return new InternalServerException(BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR);
+                });
+    }
+
+    private String extractDeltaContent(String chunk) {
+        try {
+            JsonNode content = objectMapper.readTree(chunk).path("choices").path(0).path("delta").path("content");
+            return content.isTextual() ? content.asText() : "";
+        } catch (JsonProcessingException e) {
+            log.error("OpenAI 스트리밍 응답 파싱 중 오류 발생: {}", chunk, e);
+            throw new InternalServerException(BaseResponseStatus.RECOMMAND_PLAYER_GPT_ERROR);
+        }
+    }
+
     private String createStructuredPrompt(String prompt) {
         return prompt + "\n\n다음과 같은 JSON 구조로 응답해주세요:\n" +
                 "{\n" +
@@ -0,0 +1,277 @@
+package notfound.ballog.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.common.utils.S3Util;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 추천 선수 이미지 조회 (네이버 크롤링 결과를 Redis에 캐시)
+ * - 키는 정규화한 선수 이름 (playerImage:{name}), 값은 이미지 URL / 출처 / 조회 시각 해시
+ * - 이미지가 없는 선수와 네이버 오류(timeout, 차단)도 짧은 TTL로 캐시해서 같은 이름으로 다시 5초씩 기다리지 않음
+ * - refresh-after가 지난 항목은 캐시 값을 그대로 반환하고, 정해진 수의 워커가 뒤에서 다시 조회
+ *   (큐가 가득 차면 이번 갱신은 건너뛰고 다음 조회 때 다시 시도)
+ * - s3-mirror를 켜면 갱신 워커가 이미지를 S3에 복사해서 이후에는 S3 URL을 반환 (클라이언트가 네이버에 직접 접근하지 않음)
+ */
+@Slf4j
+@Service
+public class PlayerImageService {
+
+    private static final String KEY_PREFIX = "playerImage:";
+
+    private static final String MIRROR_KEY_PREFIX = "player-image/";
+
+    private static final String URL_FIELD = "url";
+
+    private static final String SOURCE_FIELD = "source";
+
+    private static final String FETCHED_AT_FIELD = "fetchedAt";
+
+    // 출처: 네이버 이미지 URL, S3 복사본, 이미지 없음, 네이버 오류
+    private static final String NAVER = "naver";
+
+    private static final String S3 = "s3";
+
+    private static final String NONE = "none";
+
+    private static final String ERROR = "error";
+
+    private static final int MAX_IMAGE_BYTES = 5 * 1024 * 1024;
+
+    // 공백, 가운뎃점, 마침표, 하이픈은 표기가 자주 달라서 키에서 제외 (예: 케빈 더 브라위너 = 케빈 더브라위너)
+    private static final Pattern IGNORED_CHARACTERS = Pattern.compile("[\\s·・.\\-]");
+
+    private final NaverCrawlService naverCrawlService;
+
+    private final S3Util s3Util;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ThreadPoolExecutor refresher;
+
+    // 갱신 대기/진행 중인 키 (같은 선수 갱신은 하나만)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Duration ttl;
+
+    private final Duration refreshAfter;
+
+    private final Duration negativeTtl;
+
+    private final Duration errorTtl;
+
+    private final boolean s3Mirror;
+
+    private final Counter hitCounter;
+
+    private final Counter negativeHitCounter;
+
+    private final Counter missCounter;
+
+    public PlayerImageService(NaverCrawlService naverCrawlService,
+                              S3Util s3Util,
+                              StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${player-image.cache.ttl-days:30}") long ttlDays,
+                              @Value("${player-image.cache.refresh-after-days:7}") long refreshAfterDays,
+                              @Value("${player-image.cache.negative-ttl-hours:24}") long negativeTtlHours,
+                              @Value("${player-image.cache.error-ttl-minutes:10}") long errorTtlMinutes,
+                              @Value("${player-image.refresh.workers:2}") int workers,
+                              @Value("${player-image.refresh.queue-size:100}") int queueSize,
+                              @Value("${player-image.s3-mirror:false}") boolean s3Mirror) {
+        this.naverCrawlService = naverCrawlService;
+        this.s3Util = s3Util;
+        this.redisTemplate = redisTemplate;
+        this.refresher = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize));
+        this.ttl = Duration.ofDays(ttlDays);
+        this.refreshAfter = Duration.ofDays(refreshAfterDays);
+        this.negativeTtl = Duration.ofHours(negativeTtlHours);
+        this.errorTtl = Duration.ofMinutes(errorTtlMinutes);
+        this.s3Mirror = s3Mirror;
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.negativeHitCounter = lookupCounter(meterRegistry, "negative_hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+    }
+
+    // hit: 이미지 URL 캐시 적중, negative_hit: 이미지 없음/오류 캐시 적중, miss: 네이버 조회
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("player_image.lookups")
+                .description("추천 선수 이미지 조회 처리 방식")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /** 선수 이미지 URL (없거나 네이버 오류면 null) */
+    public String getPlayerImageUrl(String playerName) {
+        if (playerName == null || playerName.isBlank()) {
+            return null;
+        }
+        String key = KEY_PREFIX + normalize(playerName);
+
+        Map<Object, Object> cached = redisTemplate.opsForHash().entries(key);
+        if (!cached.isEmpty()) {
+            String imageUrl = (String) cached.get(URL_FIELD);
+            if (imageUrl == null || imageUrl.isEmpty()) {
+                negativeHitCounter.increment();
+                return null;
+            }
+
+            hitCounter.increment();
+            if (isStale(cached) || (s3Mirror && !S3.equals(cached.get(SOURCE_FIELD)))) {
+                scheduleRefresh(playerName, key, null);
+            }
+            return imageUrl;
+        }
+
+        // 처음 보는 선수는 바로 조회 (S3 복사는 뒤에서)
+        missCounter.increment();
+        try {
+            String imageUrl = naverCrawlService.fetchPlayerImageUrl(playerName);
+            save(key, imageUrl, imageUrl != null ? NAVER : NONE);
+            if (imageUrl != null && s3Mirror) {
+                scheduleRefresh(playerName, key, imageUrl);
+            }
+            return imageUrl;
+        } catch (IOException e) {
+            log.error("네이버 이미지 크롤링 중 오류 발생 - 선수: {}, 오류: {}", playerName, e.getMessage());
+            save(key, null, ERROR);
+            return null;
+        }
+    }
+
+    private boolean isStale(Map<Object, Object> cached) {
+        Object fetchedAt = cached.get(FETCHED_AT_FIELD);
+        try {
+            return fetchedAt == null
+                    || System.currentTimeMillis() - Long.parseLong(fetchedAt.toString()) > refreshAfter.toMillis();
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /** 갱신 예약 (imageUrl이 있으면 네이버 조회 없이 S3 복사만) */
+    private void scheduleRefresh(String playerName, String key, String imageUrl) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    refresh(playerName, key, imageUrl);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.debug("선수 이미지 갱신 큐가 가득 차서 건너뜀 - 선수: {}", playerName);
+        }
+    }
+
+    // 실패하면 기존 캐시를 그대로 둠
+    private void refresh(String playerName, String key, String knownImageUrl) {
+        try {
+            String imageUrl = knownImageUrl != null ? knownImageUrl : naverCrawlService.fetchPlayerImageUrl(playerName);
+            if (imageUrl == null) {
+                save(key, null, NONE);
+                return;
+            }
+
+            if (s3Mirror) {
+                save(key, mirror(key, imageUrl), S3);
+            } else {
+                save(key, imageUrl, NAVER);
+            }
+        } catch (Exception e) {
+            log.warn("선수 이미지 갱신 실패 - 선수: {}, 오류: {}", playerName, e.getMessage());
+        }
+    }
+
+    // 네이버 이미지를 S3에 복사하고 S3 URL 반환 (선수별 objectKey가 고정이라 다시 복사하면 덮어씀)
+    private String mirror(String key, String imageUrl) throws IOException {
+        Connection.Response response = Jsoup.connect(imageUrl)
+                .referrer("https://search.naver.com")
+                .ignoreContentType(true)
+                .maxBodySize(MAX_IMAGE_BYTES)
+                .timeout(5_000)
+                .execute();
+
+        String contentType = response.contentType() != null ? response.contentType() : "image/jpeg";
+        String objectKey = MIRROR_KEY_PREFIX + hash(key) + extension(contentType);
+        s3Util.upload(objectKey, response.bodyAsBytes(), contentType);
+        return s3Util.getObjectUrl(objectKey);
+    }
+
+    private void save(String key, String imageUrl, String source) {
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                URL_FIELD, imageUrl != null ? imageUrl : "",
+                SOURCE_FIELD, source,
+                FETCHED_AT_FIELD, String.valueOf(System.currentTimeMillis())));
+
+        Duration expiry = switch (source) {
+            case NONE -> negativeTtl;
+            case ERROR -> errorTtl;
+            default -> ttl;
+        };
+        redisTemplate.expire(key, expiry);
+    }
+
+    /** 캐시 키용 선수 이름 (유니코드 정규화, 소문자, 공백/구두점 제거) */
+    static String normalize(String playerName) {
+        String normalized = Normalizer.normalize(playerName, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return IGNORED_CHARACTERS.matcher(normalized).replaceAll("");
+    }
+
+    private static String extension(String contentType) {
+        if (contentType.startsWith("image/png")) {
+            return ".png";
+        }
+        if (contentType.startsWith("image/webp")) {
+            return ".webp";
+        }
+        if (contentType.startsWith("image/gif")) {
+            return ".gif";
+        }
+        return ".jpg";
+    }
+
+    // S3 objectKey에 한글 이름 대신 사용하는 SHA-256 앞 16자리
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+}
@@ -8,13 +8,15 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notfound.ballog.common.response.BaseResponse;
+import notfound.ballog.common.response.BaseResponseStatus;
 import notfound.ballog.domain.video.request.*;
 import notfound.ballog.domain.video.response.*;
 import notfound.ballog.domain.video.service.HighlightService;
 import notfound.ballog.domain.video.service.VideoService;
+import notfound.ballog.exception.ValidationException;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Tag(
@@ -81,17 +84,37 @@ public class VideoController {
     }
 
 
-    @Operation(summary = "하이라이트 자동 추출")
+    @Operation(summary = "하이라이트 자동 추출 작업 등록")
     @PostMapping(value = "/highlight/auto",
                 consumes = MediaType.MULTIPART_FORM_DATA_VALUE
     )
-    public BaseResponse<ExtractHighlightResponse> extractHighlight(
+    public BaseResponse<HighlightJobResponse> extractHighlight(
             @RequestPart("file") MultipartFile file,
             @RequestPart("videoId") Integer videoId
     ) throws IOException {
         log.info("영상 아이디 ------------ {}", videoId);
 
-        ExtractHighlightResponse response = highlightService.extractHighlight(videoId, file);
+        HighlightJobResponse response = highlightService.extractHighlight(videoId, file);
+
+        return BaseResponse.ok(response);
+    }
+
+    @Operation(summary = "S3에 업로드된 영상으로 하이라이트 자동 추출 작업 등록")
+    @PostMapping("/highlight/auto/s3")
+    public BaseResponse<HighlightJobResponse> extractHighlightFromS3(
+            @Valid @RequestBody ExtractHighlightRequest request
+    ) {
+        HighlightJobResponse response = highlightService.extractHighlightFromS3(request.getVideoId());
+
+        return BaseResponse.ok(response);
+    }
+
+    @Operation(summary = "하이라이트 자동 추출 작업 상태 조회")
+    @GetMapping("/highlight/jobs/{jobId}")
+    public BaseResponse<HighlightJobResponse> getHighlightJob(
+            @PathVariable Long jobId
+    ) {
+        HighlightJobResponse response = highlightService.getHighlightJob(jobId);
 
         return BaseResponse.ok(response);
     }
@@ -141,18 +164,26 @@ public class VideoController {
             summary = "하이라이트 좋아요 리스트 커서 조회",
             description = "사용자가 좋아요한 하이라이트 목록을 커서 기반 페이징으로 조회합니다.",
             parameters = {
-                    @Parameter(name = "cursorId", description = "마지막으로 조회한 항목의 ID (첫 요청에서는 생략 가능)"),
-                    @Parameter(name = "size", description = "한 번에 가져올 항목 수 (기본값: 10)"),
-                    @Parameter(name = "sort", description = "정렬 기준 (기본값: highlightId,desc)")
+                    @Parameter(name = "cursorLikeId", description = "이전 응답의 nextCursorLikeId (첫 요청에서는 생략, cursorLikedAt과 함께 보내야 함)"),
+                    @Parameter(name = "cursorLikedAt", description = "이전 응답의 nextCursorLikedAt (첫 요청에서는 생략, cursorLikeId와 함께 보내야 함)"),
+                    @Parameter(name = "cursorId", deprecated = true, description = "더 이상 사용하지 않음 (하이라이트 ID 커서, 보내면 오류)"),
+                    @Parameter(name = "size", description = "한 번에 가져올 항목 수 (기본값: 10, 좋아요 누른 시각 최신순)")
             }
     )
     @GetMapping("/likes")
     public BaseResponse<GetLikeResponse> getLikedHighlights(
             @AuthenticationPrincipal UUID userId,
-            @RequestParam(required = false) Integer cursorId,
-            @PageableDefault(size = 10, sort = "highlightId", direction = Sort.Direction.DESC) Pageable pageable) {
+            @RequestParam(required = false) Integer cursorLikeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorLikedAt,
+            @RequestParam(name = "cursorId", required = false) Integer legacyCursorId,
+            @PageableDefault(size = 10) Pageable pageable) {
+
+        // 예전 커서(하이라이트 ID)만 보내는 호출은 첫 페이지를 반복해서 받지 않도록 오류로 응답
+        if (legacyCursorId != null) {
+            throw new ValidationException(BaseResponseStatus.INVALID_LIKE_CURSOR);
+        }
 
-        GetLikeResponse response = highlightService.getLikedHighlights(userId, cursorId, pageable);
+        GetLikeResponse response = highlightService.getLikedHighlights(userId, cursorLikeId, cursorLikedAt, pageable);
         return BaseResponse.ok(response);
     }
 
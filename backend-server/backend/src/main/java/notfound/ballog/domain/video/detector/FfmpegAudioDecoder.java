@@ -0,0 +1,86 @@
+package notfound.ballog.domain.video.detector;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ffmpeg 하위 프로세스로 영상(mp4 등)의 오디오 트랙을 16비트 PCM WAV로 변환해서 파이프로 읽음
+ * - 채널 수/샘플레이트는 원본 그대로 유지 (pydub 분석 결과와 맞추기 위함)
+ * - 변환 결과를 파일로 쓰지 않으므로 디스크/메모리 사용량이 영상 길이와 무관
+ * - timeout이 지나거나 읽는 쪽에서 취소하면 프로세스를 강제 종료 (url 다운로드가 멈춰도 ffmpeg가 남지 않음)
+ */
+public class FfmpegAudioDecoder {
+
+    private final String ffmpegPath;
+
+    private final Duration timeout;
+
+    public FfmpegAudioDecoder(String ffmpegPath, Duration timeout) {
+        this.ffmpegPath = ffmpegPath;
+        this.timeout = timeout;
+    }
+
+    public PcmStream open(Path mediaFile) throws IOException {
+        return open(mediaFile.toString());
+    }
+
+    /** 파일 경로 또는 http(s) url (S3 presigned url이면 ffmpeg가 내려받으면서 바로 변환) */
+    public PcmStream open(String mediaSource) throws IOException {
+        Process process = new ProcessBuilder(
+                ffmpegPath, "-v", "error", "-nostdin",
+                "-i", mediaSource,
+                "-vn", "-acodec", "pcm_s16le", "-f", "wav", "pipe:1")
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        // timeout 안에 끝나지 않으면 강제 종료 (먼저 끝나면 예약된 종료도 취소됨)
+        AtomicBoolean timedOut = new AtomicBoolean();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        process.onExit()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    timedOut.set(true);
+                    process.destroyForcibly();
+                    return null;
+                });
+
+        try {
+            PcmStream wav = WavDecoder.open(process.getInputStream());
+            return wav.withCloseAction(() -> close(process, wav, timedOut.get(), cancelled.get()), () -> {
+                cancelled.set(true);
+                process.destroyForcibly();
+            });
+        } catch (IOException e) {
+            process.destroyForcibly();
+            throw new IOException("ffmpeg 오디오 변환 실패", e);
+        }
+    }
+
+    // 시간 초과로 잘린 출력은 실패로 처리, 읽는 쪽에서 취소한 경우는 결과를 쓰지 않으므로 그냥 닫음
+    private void close(Process process, PcmStream wav, boolean timedOut, boolean cancelled) throws IOException {
+        try {
+            wav.close();
+            if (timedOut) {
+                throw new IOException("ffmpeg 오디오 변환 시간 초과 (" + timeout.toMillis() + "ms)");
+            }
+            if (cancelled) {
+                return;
+            }
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("ffmpeg 프로세스가 종료되지 않았습니다.");
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException("ffmpeg 오디오 변환 실패 (exit " + process.exitValue() + ")");
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IOException("ffmpeg 오디오 변환 중 인터럽트", e);
+        }
+    }
+
+}
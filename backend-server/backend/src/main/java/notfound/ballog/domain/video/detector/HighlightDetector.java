@@ -0,0 +1,16 @@
+package notfound.ballog.domain.video.detector;
+
+import notfound.ballog.domain.video.dto.HighlightExtractionDto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 영상/오디오 파일에서 하이라이트 구간 추출
+ */
+public interface HighlightDetector {
+
+    List<HighlightExtractionDto> detect(Path mediaFile) throws IOException;
+
+}
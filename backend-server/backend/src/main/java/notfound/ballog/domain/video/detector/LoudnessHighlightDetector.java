@@ -0,0 +1,234 @@
+package notfound.ballog.domain.video.detector;
+
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.domain.video.dto.HighlightExtractionDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 음량 기반 하이라이트 추출 (영상 분석 서버 analyze_audio_file과 같은 알고리즘)
+ * 1. 100ms 프레임별 dBFS 계산
+ * 2. 전체 프레임 기준 z-score
+ * 3. 30프레임 이동 평균 (numpy.convolve mode='same'과 같은 정렬)
+ * 4. 기준값을 넘는 프레임 중심 ±10초를 하이라이트 후보로 보고, 앞 구간과 겹치는 후보는 버림
+ * - 샘플은 스트림으로 읽고 프레임별 음량만 double 배열로 보관 (영상 1시간 = 36,000개)
+ */
+@Slf4j
+@Component
+public class LoudnessHighlightDetector implements HighlightDetector {
+
+    static final int FRAME_MS = 100;
+
+    static final int SMOOTHING_WINDOW = 30;
+
+    static final double ZSCORE_THRESHOLD = 1.0;
+
+    static final double SEGMENT_HALF_SECONDS = 10.0;
+
+    // 무음 프레임은 -inf 대신 16비트 PCM 다이나믹 레인지 하한으로 처리 (분석 서버는 이 경우 NaN이 되어 결과가 없음)
+    static final double SILENCE_DBFS = -96.0;
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    private final FfmpegAudioDecoder ffmpegAudioDecoder;
+
+    public LoudnessHighlightDetector(@Value("${highlight.detector.ffmpeg-path:ffmpeg}") String ffmpegPath,
+                                     @Value("${highlight.detector.timeout-ms:300000}") long timeoutMs) {
+        this.ffmpegAudioDecoder = new FfmpegAudioDecoder(ffmpegPath, Duration.ofMillis(timeoutMs));
+    }
+
+    /** WAV는 직접 읽고 그 외(mp4 등)는 ffmpeg로 오디오 트랙만 변환해서 읽음 */
+    @Override
+    public List<HighlightExtractionDto> detect(Path mediaFile) throws IOException {
+        long startedAt = System.nanoTime();
+
+        List<HighlightExtractionDto> highlightList;
+        if (mediaFile.getFileName().toString().toLowerCase().endsWith(".wav")) {
+            try (InputStream in = Files.newInputStream(mediaFile); PcmStream pcm = WavDecoder.open(in)) {
+                highlightList = detect(pcm);
+            }
+        } else {
+            try (PcmStream pcm = ffmpegAudioDecoder.open(mediaFile)) {
+                highlightList = detect(pcm);
+            }
+        }
+
+        log.info("하이라이트 추출 완료 - 파일: {}, 하이라이트 {}개, 소요 {}ms",
+                mediaFile.getFileName(), highlightList.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return highlightList;
+    }
+
+    public List<HighlightExtractionDto> detect(PcmStream pcm) throws IOException {
+        double[] loudness = frameLoudness(pcm);
+        return toHighlights(findSegments(loudness, loudness.length));
+    }
+
+    /** 100ms 프레임별 dBFS (모든 채널 샘플의 RMS 기준, 마지막 프레임은 남은 샘플만으로 계산) */
+    static double[] frameLoudness(PcmStream pcm) throws IOException {
+        PcmFormat format = pcm.getFormat();
+        int bytesPerSample = format.getBytesPerSample();
+        long samplesPerFrame = Math.max(1, Math.round(format.getSampleRate() * FRAME_MS / 1000.0)) * format.getChannels();
+
+        double[] loudness = new double[1024];
+        int frameCount = 0;
+
+        byte[] buffer = new byte[READ_BUFFER_BYTES - READ_BUFFER_BYTES % bytesPerSample];
+        int carry = 0;
+        double sumSquares = 0;
+        long sampleCount = 0;
+
+        int read;
+        while ((read = pcm.read(buffer, carry, buffer.length - carry)) != -1) {
+            int available = carry + read;
+            int usable = available - available % bytesPerSample;
+
+            for (int offset = 0; offset < usable; offset += bytesPerSample) {
+                double sample = sampleAt(buffer, offset, format);
+                sumSquares += sample * sample;
+
+                if (++sampleCount == samplesPerFrame) {
+                    if (frameCount == loudness.length) {
+                        loudness = Arrays.copyOf(loudness, frameCount * 2);
+                    }
+                    loudness[frameCount++] = toDbfs(sumSquares, sampleCount);
+                    sumSquares = 0;
+                    sampleCount = 0;
+                }
+            }
+
+            // 샘플 경계에 걸친 바이트는 다음 읽기 앞에 붙임
+            carry = available - usable;
+            System.arraycopy(buffer, usable, buffer, 0, carry);
+        }
+
+        if (sampleCount > 0) {
+            if (frameCount == loudness.length) {
+                loudness = Arrays.copyOf(loudness, frameCount + 1);
+            }
+            loudness[frameCount++] = toDbfs(sumSquares, sampleCount);
+        }
+        return Arrays.copyOf(loudness, frameCount);
+    }
+
+    /**
+     * 프레임별 음량에서 하이라이트 구간(초) 계산, [시작, 끝] 쌍을 이어붙인 배열 반환
+     * - 이동 평균은 프레임마다 30개를 다시 더하지 않고 창에 들어오는 값만 더하고 나가는 값만 뺌
+     */
+    static double[] findSegments(double[] loudness, int frameCount) {
+        if (frameCount == 0) {
+            return new double[0];
+        }
+
+        double sum = 0;
+        for (int i = 0; i < frameCount; i++) {
+            sum += loudness[i];
+        }
+        double mean = sum / frameCount;
+
+        double squaredDiffSum = 0;
+        for (int i = 0; i < frameCount; i++) {
+            double diff = loudness[i] - mean;
+            squaredDiffSum += diff * diff;
+        }
+        double std = Math.sqrt(squaredDiffSum / frameCount);
+        if (std == 0) {
+            return new double[0];
+        }
+
+        // mode='same'에서 i번째 값은 z[i - 15] ~ z[i + 14]의 평균 (범위 밖은 0)
+        int before = SMOOTHING_WINDOW / 2;
+        int after = SMOOTHING_WINDOW - 1 - before;
+
+        double windowSum = 0;
+        for (int i = 0; i <= Math.min(after, frameCount - 1); i++) {
+            windowSum += (loudness[i] - mean) / std;
+        }
+
+        double[] segments = new double[16];
+        int segmentValues = 0;
+        double lastEnd = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < frameCount; i++) {
+            if (windowSum / SMOOTHING_WINDOW > ZSCORE_THRESHOLD) {
+                double center = i * (FRAME_MS / 1000.0);
+                double start = Math.max(0, round2(center - SEGMENT_HALF_SECONDS));
+                double end = round2(center + SEGMENT_HALF_SECONDS);
+
+                // 후보는 시간 순서로 나오므로 마지막으로 고른 구간과만 비교
+                if (start > lastEnd) {
+                    if (segmentValues == segments.length) {
+                        segments = Arrays.copyOf(segments, segmentValues * 2);
+                    }
+                    segments[segmentValues++] = start;
+                    segments[segmentValues++] = end;
+                    lastEnd = end;
+                }
+            }
+
+            int entering = i + after + 1;
+            if (entering < frameCount) {
+                windowSum += (loudness[entering] - mean) / std;
+            }
+            int leaving = i - before;
+            if (leaving >= 0) {
+                windowSum -= (loudness[leaving] - mean) / std;
+            }
+        }
+        return Arrays.copyOf(segments, segmentValues);
+    }
+
+    private static List<HighlightExtractionDto> toHighlights(double[] segments) {
+        List<HighlightExtractionDto> highlightList = new ArrayList<>(segments.length / 2);
+        for (int i = 0; i < segments.length; i += 2) {
+            highlightList.add(HighlightExtractionDto.builder()
+                    .highlightName("하이라이트 " + (i / 2 + 1))
+                    .startTime(LocalTime.ofSecondOfDay((long) segments[i]))
+                    .endTime(LocalTime.ofSecondOfDay((long) segments[i + 1]))
+                    .build());
+        }
+        return highlightList;
+    }
+
+    // 정수 PCM은 [-1, 1)로 정규화
+    static double sampleAt(byte[] buffer, int offset, PcmFormat format) {
+        if (format.isFloatingPoint()) {
+            return Float.intBitsToFloat(readIntLE(buffer, offset));
+        }
+        return switch (format.getBitsPerSample()) {
+            case 8 -> ((buffer[offset] & 0xFF) - 128) / 128.0;
+            case 16 -> (short) ((buffer[offset] & 0xFF) | (buffer[offset + 1] << 8)) / 32768.0;
+            case 24 -> ((buffer[offset] & 0xFF) | ((buffer[offset + 1] & 0xFF) << 8) | (buffer[offset + 2] << 16)) / 8388608.0;
+            default -> readIntLE(buffer, offset) / 2147483648.0;
+        };
+    }
+
+    private static int readIntLE(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xFF)
+                | ((buffer[offset + 1] & 0xFF) << 8)
+                | ((buffer[offset + 2] & 0xFF) << 16)
+                | (buffer[offset + 3] << 24);
+    }
+
+    static double toDbfs(double sumSquares, long sampleCount) {
+        double meanSquare = sumSquares / sampleCount;
+        if (meanSquare <= 0) {
+            return SILENCE_DBFS;
+        }
+        return Math.max(SILENCE_DBFS, 10 * Math.log10(meanSquare));
+    }
+
+    static double round2(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+}
@@ -0,0 +1,30 @@
+package notfound.ballog.domain.video.detector;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * PCM 오디오 형식 (샘플은 채널 순서대로 interleave, little endian)
+ */
+@Getter
+@AllArgsConstructor
+public class PcmFormat {
+
+    private final int sampleRate;
+
+    private final int channels;
+
+    private final int bitsPerSample;
+
+    // IEEE float(32비트) 여부, 아니면 정수 PCM
+    private final boolean floatingPoint;
+
+    public static PcmFormat signed16(int sampleRate, int channels) {
+        return new PcmFormat(sampleRate, channels, 16, false);
+    }
+
+    public int getBytesPerSample() {
+        return bitsPerSample / 8;
+    }
+
+}
@@ -0,0 +1,71 @@
+package notfound.ballog.domain.video.detector;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * PCM 샘플 스트림
+ * - WAV는 data 청크 크기만큼만 읽고, 크기를 모르면(파이프로 받은 WAV, raw PCM) 끝까지 읽음
+ */
+public class PcmStream implements Closeable {
+
+    @Getter
+    private final PcmFormat format;
+
+    private final InputStream in;
+
+    // 남은 바이트 수, 모르면 -1
+    private long remaining;
+
+    private final Closeable onClose;
+
+    private final Runnable onCancel;
+
+    PcmStream(PcmFormat format, InputStream in, long remaining, Closeable onClose) {
+        this(format, in, remaining, onClose, () -> {});
+    }
+
+    private PcmStream(PcmFormat format, InputStream in, long remaining, Closeable onClose, Runnable onCancel) {
+        this.format = format;
+        this.in = in;
+        this.remaining = remaining;
+        this.onClose = onClose;
+        this.onCancel = onCancel;
+    }
+
+    /** 헤더 없는 PCM 스트림 */
+    public static PcmStream raw(InputStream in, PcmFormat format) {
+        return new PcmStream(format, in, -1, in);
+    }
+
+    // 헤더를 읽으면서 버퍼에 들어온 샘플은 그대로 두고 닫을 때/중단할 때 할 일만 바꿈
+    PcmStream withCloseAction(Closeable closeAction, Runnable cancelAction) {
+        return new PcmStream(format, in, remaining, closeAction, cancelAction);
+    }
+
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (remaining == 0) {
+            return -1;
+        }
+        int toRead = remaining < 0 ? length : (int) Math.min(length, remaining);
+        int read = in.read(buffer, offset, toRead);
+        if (read > 0 && remaining > 0) {
+            remaining -= read;
+        }
+        return read;
+    }
+
+    /** 읽기 중단 (ffmpeg 프로세스 강제 종료 등, read에서 막혀 있는 스레드가 아닌 다른 스레드에서 호출) */
+    public void cancel() {
+        onCancel.run();
+    }
+
+    @Override
+    public void close() throws IOException {
+        onClose.close();
+    }
+
+}
@@ -0,0 +1,92 @@
+package notfound.ballog.domain.video.detector;
+
+import notfound.ballog.domain.video.dto.HighlightExtractionDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 스트리밍 하이라이트 추출 (StreamingLoudnessAnalyzer를 Flux로 노출)
+ * - 오디오가 다 들어오기 전에 확정된 하이라이트부터 순서대로 내보냄
+ * - 판정은 lookback-seconds만큼 늦게 확정되고, 메모리는 (이동 평균 창 + lookback) 프레임만 사용
+ */
+@Component
+public class StreamingHighlightDetector {
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    private final FfmpegAudioDecoder ffmpegAudioDecoder;
+
+    private final int lookbackFrames;
+
+    public StreamingHighlightDetector(@Value("${highlight.detector.ffmpeg-path:ffmpeg}") String ffmpegPath,
+                                      @Value("${highlight.detector.lookback-seconds:60}") int lookbackSeconds,
+                                      @Value("${highlight.detector.timeout-ms:300000}") long timeoutMs) {
+        this.ffmpegAudioDecoder = new FfmpegAudioDecoder(ffmpegPath, Duration.ofMillis(timeoutMs));
+        this.lookbackFrames = lookbackSeconds * 1000 / LoudnessHighlightDetector.FRAME_MS;
+    }
+
+    /** PCM 청크 스트림 분석 (업로드 중인 요청 본문 등을 그대로 넘길 수 있음) */
+    public Flux<HighlightExtractionDto> detect(PcmFormat format, Flux<DataBuffer> pcm) {
+        return Flux.defer(() -> {
+            StreamingLoudnessAnalyzer analyzer = new StreamingLoudnessAnalyzer(format, lookbackFrames);
+            return pcm.concatMapIterable(buffer -> {
+                        try {
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.read(bytes);
+                            return analyzer.accept(bytes, 0, bytes.length);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(analyzer.finish())));
+        });
+    }
+
+    /**
+     * 파일 경로나 url을 ffmpeg로 읽으면서 분석 (S3 presigned url이면 내려받는 동안 분석이 같이 진행됨)
+     * - 구독을 취소하면(timeout 등) read에서 막혀 있어도 ffmpeg 프로세스를 바로 종료
+     */
+    public Flux<HighlightExtractionDto> detect(String mediaSource) {
+        return Flux.using(
+                        () -> ffmpegAudioDecoder.open(mediaSource),
+                        pcm -> {
+                            byte[] buffer = new byte[READ_BUFFER_BYTES];
+                            return Flux.<List<HighlightExtractionDto>, StreamingLoudnessAnalyzer>generate(
+                                    () -> new StreamingLoudnessAnalyzer(pcm.getFormat(), lookbackFrames),
+                                    (analyzer, sink) -> {
+                                        try {
+                                            int read = pcm.read(buffer, 0, buffer.length);
+                                            if (read == -1) {
+                                                sink.next(analyzer.finish());
+                                                sink.complete();
+                                            } else {
+                                                sink.next(analyzer.accept(buffer, 0, read));
+                                            }
+                                        } catch (IOException e) {
+                                            sink.error(e);
+                                        }
+                                        return analyzer;
+                                    })
+                                    .doOnCancel(pcm::cancel);
+                        },
+                        pcm -> {
+                            try {
+                                pcm.close();
+                            } catch (IOException e) {
+                                throw Exceptions.propagate(e);
+                            }
+                        })
+                .concatMapIterable(highlightList -> highlightList)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+}
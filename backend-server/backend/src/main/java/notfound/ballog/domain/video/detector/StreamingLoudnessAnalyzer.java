@@ -0,0 +1,173 @@
+package notfound.ballog.domain.video.detector;
+
+import notfound.ballog.domain.video.dto.HighlightExtractionDto;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static notfound.ballog.domain.video.detector.LoudnessHighlightDetector.*;
+
+/**
+ * 한 번 훑으면서 하이라이트 구간을 찾는 음량 분석기 (LoudnessHighlightDetector의 스트리밍 버전)
+ * - 평균/표준편차는 Welford 방식으로 프레임이 들어올 때마다 갱신
+ * - 프레임 판정은 lookbackFrames만큼 늦춰서, 판정 시점 통계에 그 뒤 구간까지 반영되게 함 (앞부분 통계가 불안정한 것 보정)
+ * - 최근 (이동 평균 창 + lookback) 프레임의 음량만 링 버퍼에 보관하므로 메모리는 영상 길이와 무관
+ * - lookback이 영상 길이보다 길면 LoudnessHighlightDetector와 결과가 같음
+ * - 스레드 안전하지 않음 (스트림 하나당 하나씩 생성)
+ */
+public class StreamingLoudnessAnalyzer {
+
+    // 이동 평균 창에서 판정 프레임 앞/뒤 프레임 수 (numpy.convolve mode='same' 정렬)
+    private static final int BEFORE = SMOOTHING_WINDOW / 2;
+
+    private static final int AFTER = SMOOTHING_WINDOW - 1 - BEFORE;
+
+    private final PcmFormat format;
+
+    private final long samplesPerFrame;
+
+    private final int lookbackFrames;
+
+    // 샘플 경계에 걸쳐서 들어온 바이트
+    private final byte[] carry;
+
+    private int carryLength;
+
+    private double frameSumSquares;
+
+    private long frameSampleCount;
+
+    private final double[] ring;
+
+    private int frameCount;
+
+    // Welford 누적값
+    private double mean;
+
+    private double m2;
+
+    // 판정할 프레임 이동 평균 창 안의 음량 합
+    private double windowSum;
+
+    private int nextWindowFrame;
+
+    private int nextDecisionFrame;
+
+    private double lastEnd = Double.NEGATIVE_INFINITY;
+
+    private int highlightCount;
+
+    public StreamingLoudnessAnalyzer(PcmFormat format, int lookbackFrames) {
+        this.format = format;
+        this.samplesPerFrame = Math.max(1, Math.round(format.getSampleRate() * FRAME_MS / 1000.0)) * format.getChannels();
+        this.lookbackFrames = Math.max(lookbackFrames, AFTER);
+        this.carry = new byte[format.getBytesPerSample()];
+        this.ring = new double[BEFORE + this.lookbackFrames + 1];
+    }
+
+    /** PCM 바이트를 받아서 이번에 확정된 하이라이트 반환 */
+    public List<HighlightExtractionDto> accept(byte[] buffer, int offset, int length) {
+        List<HighlightExtractionDto> highlightList = new ArrayList<>();
+        int bytesPerSample = format.getBytesPerSample();
+        int position = offset;
+        int end = offset + length;
+
+        // 이전 청크에서 남은 반쪽 샘플 채우기
+        if (carryLength > 0) {
+            int needed = Math.min(bytesPerSample - carryLength, length);
+            System.arraycopy(buffer, position, carry, carryLength, needed);
+            carryLength += needed;
+            position += needed;
+            if (carryLength < bytesPerSample) {
+                return highlightList;
+            }
+            addSample(LoudnessHighlightDetector.sampleAt(carry, 0, format), highlightList);
+            carryLength = 0;
+        }
+
+        for (; position + bytesPerSample <= end; position += bytesPerSample) {
+            addSample(LoudnessHighlightDetector.sampleAt(buffer, position, format), highlightList);
+        }
+
+        carryLength = end - position;
+        System.arraycopy(buffer, position, carry, 0, carryLength);
+        return highlightList;
+    }
+
+    /** 스트림 끝: 마지막 프레임을 마무리하고 남은 프레임을 모두 판정 */
+    public List<HighlightExtractionDto> finish() {
+        List<HighlightExtractionDto> highlightList = new ArrayList<>();
+        if (frameSampleCount > 0) {
+            addFrame(LoudnessHighlightDetector.toDbfs(frameSumSquares, frameSampleCount), highlightList);
+            frameSampleCount = 0;
+        }
+        while (nextDecisionFrame < frameCount) {
+            decide(highlightList);
+        }
+        return highlightList;
+    }
+
+    private void addSample(double sample, List<HighlightExtractionDto> highlightList) {
+        frameSumSquares += sample * sample;
+        if (++frameSampleCount == samplesPerFrame) {
+            addFrame(LoudnessHighlightDetector.toDbfs(frameSumSquares, frameSampleCount), highlightList);
+            frameSumSquares = 0;
+            frameSampleCount = 0;
+        }
+    }
+
+    private void addFrame(double loudness, List<HighlightExtractionDto> highlightList) {
+        ring[frameCount % ring.length] = loudness;
+        frameCount++;
+
+        double delta = loudness - mean;
+        mean += delta / frameCount;
+        m2 += delta * (loudness - mean);
+
+        if (frameCount - 1 - nextDecisionFrame >= lookbackFrames) {
+            decide(highlightList);
+        }
+    }
+
+    // nextDecisionFrame 하나를 판정하고 이동 평균 창을 한 칸 옮김
+    private void decide(List<HighlightExtractionDto> highlightList) {
+        int frame = nextDecisionFrame++;
+
+        int windowLast = Math.min(frame + AFTER, frameCount - 1);
+        while (nextWindowFrame <= windowLast) {
+            windowSum += ring[nextWindowFrame++ % ring.length];
+        }
+        int windowFirst = Math.max(frame - BEFORE, 0);
+
+        // 창 안 z-score 합 = (음량 합 - 개수 * 평균) / 표준편차 (범위 밖 프레임은 0으로 취급)
+        double std = Math.sqrt(m2 / frameCount);
+        if (std > 0) {
+            double smoothed = (windowSum - (windowLast - windowFirst + 1) * mean) / std / SMOOTHING_WINDOW;
+            if (smoothed > ZSCORE_THRESHOLD) {
+                addCandidate(frame, highlightList);
+            }
+        }
+
+        if (frame - BEFORE >= 0) {
+            windowSum -= ring[(frame - BEFORE) % ring.length];
+        }
+    }
+
+    private void addCandidate(int frame, List<HighlightExtractionDto> highlightList) {
+        double center = frame * (FRAME_MS / 1000.0);
+        double start = Math.max(0, round2(center - SEGMENT_HALF_SECONDS));
+        double end = round2(center + SEGMENT_HALF_SECONDS);
+        if (start <= lastEnd) {
+            return;
+        }
+
+        lastEnd = end;
+        highlightList.add(HighlightExtractionDto.builder()
+                .highlightName("하이라이트 " + ++highlightCount)
+                .startTime(LocalTime.ofSecondOfDay((long) start))
+                .endTime(LocalTime.ofSecondOfDay((long) end))
+                .build());
+    }
+
+}
@@ -0,0 +1,111 @@
+package notfound.ballog.domain.video.detector;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WAV(RIFF) 헤더를 읽고 data 청크 위치에서 PCM 스트림 반환
+ * - 정수 PCM 8/16/24/32비트, IEEE float 32비트, WAVE_FORMAT_EXTENSIBLE 지원
+ */
+public final class WavDecoder {
+
+    private static final int FORMAT_PCM = 0x0001;
+
+    private static final int FORMAT_IEEE_FLOAT = 0x0003;
+
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+    // 파이프로 출력한 WAV는 크기를 모르므로 0 또는 0xFFFFFFFF로 채워져 있음
+    private static final long UNKNOWN_SIZE = 0xFFFFFFFFL;
+
+    private WavDecoder() {
+    }
+
+    public static PcmStream open(InputStream source) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(source, 64 * 1024));
+
+        if (!"RIFF".equals(readChunkId(in))) {
+            throw new IOException("WAV 파일이 아닙니다.");
+        }
+        readUInt32(in);
+        if (!"WAVE".equals(readChunkId(in))) {
+            throw new IOException("WAV 파일이 아닙니다.");
+        }
+
+        PcmFormat format = null;
+        while (true) {
+            String chunkId = readChunkId(in);
+            long chunkSize = readUInt32(in);
+
+            if ("fmt ".equals(chunkId)) {
+                format = readFormat(in, chunkSize);
+            } else if ("data".equals(chunkId)) {
+                if (format == null) {
+                    throw new IOException("WAV fmt 청크가 data 청크보다 먼저 있어야 합니다.");
+                }
+                long dataSize = chunkSize == 0 || chunkSize == UNKNOWN_SIZE ? -1 : chunkSize;
+                return new PcmStream(format, in, dataSize, in);
+            } else {
+                skipFully(in, chunkSize + (chunkSize & 1));
+            }
+        }
+    }
+
+    private static PcmFormat readFormat(DataInputStream in, long chunkSize) throws IOException {
+        int audioFormat = readUInt16(in);
+        int channels = readUInt16(in);
+        int sampleRate = (int) readUInt32(in);
+        readUInt32(in);
+        readUInt16(in);
+        int bitsPerSample = readUInt16(in);
+        long consumed = 16;
+
+        if (audioFormat == FORMAT_EXTENSIBLE && chunkSize >= 40) {
+            readUInt16(in);
+            readUInt16(in);
+            readUInt32(in);
+            // SubFormat GUID 앞 2바이트가 실제 형식
+            audioFormat = readUInt16(in);
+            consumed += 10;
+        }
+        skipFully(in, chunkSize - consumed + (chunkSize & 1));
+
+        boolean floatingPoint = audioFormat == FORMAT_IEEE_FLOAT;
+        if (audioFormat != FORMAT_PCM && !floatingPoint) {
+            throw new IOException("지원하지 않는 WAV 형식입니다: " + audioFormat);
+        }
+        if (floatingPoint ? bitsPerSample != 32 : bitsPerSample % 8 != 0 || bitsPerSample < 8 || bitsPerSample > 32) {
+            throw new IOException("지원하지 않는 샘플 크기입니다: " + bitsPerSample);
+        }
+        return new PcmFormat(sampleRate, channels, bitsPerSample, floatingPoint);
+    }
+
+    private static String readChunkId(DataInputStream in) throws IOException {
+        byte[] id = new byte[4];
+        in.readFully(id);
+        return new String(id, StandardCharsets.US_ASCII);
+    }
+
+    private static int readUInt16(DataInputStream in) throws IOException {
+        return Short.toUnsignedInt(Short.reverseBytes(in.readShort()));
+    }
+
+    private static long readUInt32(DataInputStream in) throws IOException {
+        return Integer.toUnsignedLong(Integer.reverseBytes(in.readInt()));
+    }
+
+    private static void skipFully(DataInputStream in, long bytes) throws IOException {
+        long left = bytes;
+        while (left > 0) {
+            int skipped = in.skipBytes((int) Math.min(left, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                throw new IOException("WAV 파일이 중간에 끝났습니다.");
+            }
+            left -= skipped;
+        }
+    }
+
+}
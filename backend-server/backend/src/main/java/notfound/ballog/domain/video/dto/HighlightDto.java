@@ -20,6 +20,8 @@ public class HighlightDto {
     private LocalTime endTime;
     private Boolean isLiked;
 
+    private Integer likeCount;
+
     public static HighlightDto of(Highlight highlight, boolean isLiked) {
         return HighlightDto.builder()
                 .highlightId(highlight.getHighlightId())
@@ -0,0 +1,26 @@
+package notfound.ballog.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Redis에서 바뀐 좋아요 상태 (DB 반영 대기 중인 최종 상태) */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeUpdateDto {
+
+    private Integer highlightId;
+
+    private UUID userId;
+
+    private boolean liked;
+
+    private LocalDateTime changedAt;
+
+}
@@ -0,0 +1,39 @@
+package notfound.ballog.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/** 좋아요 누른 하이라이트 목록 조회용 프로젝션 (likes -> highlight -> video -> match) */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikedHighlightDto {
+
+    private Integer likeId;
+
+    private LocalDateTime likedAt;
+
+    private Integer matchId;
+
+    private String matchName;
+
+    private LocalDate matchDate;
+
+    private LocalTime matchStartTime;
+
+    private LocalTime matchEndTime;
+
+    private String highlightName;
+
+    private LocalTime highlightStartTime;
+
+    private Integer quarterNumber;
+
+}
@@ -20,11 +20,11 @@ import java.time.LocalTime;
 @Builder
 public class Highlight {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "video_seq_generator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "highlight_seq_generator")
     @SequenceGenerator(
-            name = "video_seq_generator",
-            sequenceName = "video_seq",
-            allocationSize = 1
+            name = "highlight_seq_generator",
+            sequenceName = "highlight_seq",
+            allocationSize = 50
     )
     private Integer highlightId;
 
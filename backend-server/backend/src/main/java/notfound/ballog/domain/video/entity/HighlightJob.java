@@ -0,0 +1,118 @@
+package notfound.ballog.domain.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 하이라이트 자동 추출 작업
+ * - 요청 시 PENDING으로 저장하고 바로 응답, HighlightJobScheduler가 꺼내서 영상 분석 서버에 요청
+ * - 분석할 영상은 S3 objectKey로만 들고 있어서 어느 서버에서든 처리 가능
+ * - 실패하면 attempts를 올리고 nextAttemptAt 이후에 다시 시도, 최대 횟수를 넘기면 FAILED
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_highlight_job_status", columnList = "status, next_attempt_at, job_id"))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HighlightJob {
+
+    public static final String PENDING = "PENDING";
+
+    public static final String RUNNING = "RUNNING";
+
+    public static final String SUCCEEDED = "SUCCEEDED";
+
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @SequenceGenerator(
+            name = "highlight_job_sequence",
+            sequenceName = "highlight_job_sequence",
+            allocationSize = 50
+    )
+    @GeneratedValue(
+            strategy = GenerationType.SEQUENCE,
+            generator = "highlight_job_sequence"
+    )
+    private Long jobId;
+
+    @Column(nullable = false)
+    private Integer videoId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String objectKey;
+
+    // 추출용으로 따로 올린 파일이면 작업이 끝난 뒤 S3에서 삭제
+    private boolean temporaryObject;
+
+    @Column(nullable = false)
+    private String status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // RUNNING으로 바뀐 시각 (서버가 죽어서 오래 RUNNING으로 남은 작업을 다시 가져갈 때 사용)
+    private LocalDateTime startedAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+
+    public static HighlightJob of(Integer videoId, String objectKey, boolean temporaryObject) {
+        LocalDateTime now = LocalDateTime.now();
+        return HighlightJob.builder()
+                .videoId(videoId)
+                .objectKey(objectKey)
+                .temporaryObject(temporaryObject)
+                .status(PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public boolean isActive() {
+        return PENDING.equals(status) || RUNNING.equals(status);
+    }
+
+    public void start() {
+        this.status = RUNNING;
+        this.attempts++;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void succeed() {
+        this.status = SUCCEEDED;
+        this.errorMessage = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String errorMessage) {
+        this.status = PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.errorMessage = errorMessage;
+    }
+
+    // 실제로 시도하지 못한 경우라 start()에서 올린 시도 횟수를 되돌림
+    public void postpone(LocalDateTime nextAttemptAt, String errorMessage) {
+        this.attempts--;
+        retryAt(nextAttemptAt, errorMessage);
+    }
+
+    public void fail(String errorMessage) {
+        this.status = FAILED;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+}
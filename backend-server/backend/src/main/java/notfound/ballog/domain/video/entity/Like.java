@@ -13,7 +13,9 @@ import java.util.UUID;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "likes")
+@Table(name = "likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_likes_highlight_user", columnNames = {"highlight_id", "liked_user_id"}),
+        indexes = @Index(name = "idx_likes_user_liked_at", columnList = "liked_user_id, created_at, like_id"))
 public class Like {
 
     @Id
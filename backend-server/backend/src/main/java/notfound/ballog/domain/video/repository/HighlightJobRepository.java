@@ -0,0 +1,31 @@
+package notfound.ballog.domain.video.repository;
+
+import notfound.ballog.domain.video.entity.HighlightJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface HighlightJobRepository extends JpaRepository<HighlightJob, Long> {
+
+    /**
+     * 처리할 차례가 된 작업 하나를 잠그고 조회 (다른 워커가 잠근 행은 건너뜀)
+     * - staleBefore 이전에 시작했는데 아직 RUNNING인 작업은 처리하던 서버가 죽은 것으로 보고 다시 가져감
+     */
+    @Query(value = """
+    SELECT *
+    FROM highlight_job
+    WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+       OR (status = 'RUNNING' AND started_at < :staleBefore)
+    ORDER BY job_id
+    LIMIT 1
+    FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    Optional<HighlightJob> lockNextJob(LocalDateTime now, LocalDateTime staleBefore);
+
+    /** 영상에 대해 진행 중인 작업 (중복 요청이면 새 작업 대신 기존 작업 반환) */
+    @Query("select j from HighlightJob j where j.videoId = :videoId and j.status in ('PENDING', 'RUNNING')")
+    Optional<HighlightJob> findActiveJobByVideoId(Integer videoId);
+
+}
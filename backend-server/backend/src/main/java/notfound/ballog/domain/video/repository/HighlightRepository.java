@@ -3,6 +3,7 @@ package notfound.ballog.domain.video.repository;
 import notfound.ballog.domain.video.entity.Highlight;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +11,8 @@ public interface HighlightRepository extends JpaRepository<Highlight, Integer> {
     Optional<Highlight> findByVideo_VideoIdAndDeletedFalse(Integer videoId);
 
     List<Highlight> findAllByVideo_VideoIdAndDeletedFalse(Integer videoId);
+
+    boolean existsByVideo_VideoIdAndDeletedFalse(Integer videoId);
+
+    long countByHighlightIdIn(Collection<Integer> highlightIds);
 }
@@ -0,0 +1,18 @@
+package notfound.ballog.domain.video.repository;
+
+import notfound.ballog.domain.video.dto.LikeUpdateDto;
+import notfound.ballog.domain.video.dto.LikedHighlightDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface LikeRepositoryCustom {
+
+    /** (highlight_id, liked_user_id) 기준으로 좋아요 상태 일괄 반영 */
+    void upsertAll(List<LikeUpdateDto> likeUpdates);
+
+    /** 좋아요 누른 시각 최신순 키셋 페이징 ((cursorLikedAt, cursorLikeId) 다음부터 limit개) */
+    List<LikedHighlightDto> findLikedHighlights(UUID userId, LocalDateTime cursorLikedAt, Integer cursorLikeId, int limit);
+
+}
@@ -0,0 +1,101 @@
+package notfound.ballog.domain.video.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import notfound.ballog.domain.video.dto.LikeUpdateDto;
+import notfound.ballog.domain.video.dto.LikedHighlightDto;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static notfound.ballog.domain.match.entity.QMatch.match;
+import static notfound.ballog.domain.video.entity.QHighlight.highlight;
+import static notfound.ballog.domain.video.entity.QLike.like;
+import static notfound.ballog.domain.video.entity.QVideo.video;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeRepositoryImpl implements LikeRepositoryCustom {
+
+    // created_at은 마지막으로 좋아요를 누른 시각 (취소할 때는 유지)
+    private static final String UPSERT_SQL = """
+            INSERT INTO likes (like_id, highlight_id, liked_user_id, is_liked, created_at, updated_at)
+            VALUES (nextval('like_seq'), ?, ?, ?, ?, ?)
+            ON CONFLICT (highlight_id, liked_user_id) DO UPDATE
+            SET is_liked = EXCLUDED.is_liked,
+                created_at = CASE WHEN EXCLUDED.is_liked THEN EXCLUDED.created_at ELSE likes.created_at END,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public void upsertAll(List<LikeUpdateDto> likeUpdates) {
+        if (likeUpdates.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                LikeUpdateDto likeUpdate = likeUpdates.get(i);
+                Timestamp changedAt = Timestamp.valueOf(likeUpdate.getChangedAt());
+                ps.setInt(1, likeUpdate.getHighlightId());
+                ps.setObject(2, likeUpdate.getUserId());
+                ps.setBoolean(3, likeUpdate.isLiked());
+                ps.setTimestamp(4, changedAt);
+                ps.setTimestamp(5, changedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return likeUpdates.size();
+            }
+        });
+    }
+
+    @Override
+    public List<LikedHighlightDto> findLikedHighlights(UUID userId, LocalDateTime cursorLikedAt, Integer cursorLikeId, int limit) {
+        BooleanBuilder condition = new BooleanBuilder()
+                .and(like.likedUserId.eq(userId))
+                .and(like.isLiked.isTrue());
+
+        if (cursorLikedAt != null && cursorLikeId != null) {
+            condition.and(like.createdAt.lt(cursorLikedAt)
+                    .or(like.createdAt.eq(cursorLikedAt).and(like.likeId.lt(cursorLikeId))));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(LikedHighlightDto.class,
+                        like.likeId,
+                        like.createdAt,
+                        match.matchId,
+                        match.matchName,
+                        match.matchDate,
+                        match.startTime,
+                        match.endTime,
+                        highlight.highlightName,
+                        highlight.startTime,
+                        video.quarterNumber))
+                .from(like)
+                .join(highlight).on(highlight.highlightId.eq(like.highlightId))
+                .join(highlight.video, video)
+                .join(video.match, match)
+                .where(condition)
+                .orderBy(like.createdAt.desc(), like.likeId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+}
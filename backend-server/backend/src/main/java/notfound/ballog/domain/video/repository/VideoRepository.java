@@ -6,7 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.Optional;
 
-public interface VideoRepository extends JpaRepository<Video, Integer> {
+public interface VideoRepository extends JpaRepository<Video, Integer>, VideoRepositoryCustom {
     List<Video> findAllByMatch_MatchIdAndDeletedFalse(Integer matchId);
 
     Optional<Video> findByMatch_MatchIdAndQuarterNumberAndDeletedFalse(Integer matchId, Integer quarterNumber);
@@ -0,0 +1,12 @@
+package notfound.ballog.domain.video.repository;
+
+import notfound.ballog.domain.video.dto.VideoDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface VideoRepositoryCustom {
+
+    List<VideoDto> findVideoListByMatchIdAndUserId(Integer matchId, UUID userId);
+
+}
@@ -0,0 +1,102 @@
+package notfound.ballog.domain.video.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import notfound.ballog.domain.video.dto.HighlightDto;
+import notfound.ballog.domain.video.dto.VideoDto;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+import static notfound.ballog.domain.video.entity.QHighlight.highlight;
+import static notfound.ballog.domain.video.entity.QLike.like;
+import static notfound.ballog.domain.video.entity.QVideo.video;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoRepositoryImpl implements VideoRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 경기 영상, 하이라이트, 사용자의 좋아요 여부를 한 번에 조회
+     * - 영상 1행 x 하이라이트 N행으로 내려오므로 영상 ID 기준으로 묶어서 반환
+     * - userId가 null이면 좋아요는 조인하지 않고 모두 false (사용자 공통 캐시용)
+     */
+    @Override
+    public List<VideoDto> findVideoListByMatchIdAndUserId(Integer matchId, UUID userId) {
+        List<Expression<?>> columns = new ArrayList<>(List.of(
+                video.videoId,
+                video.quarterNumber,
+                video.videoUrl,
+                highlight.highlightId,
+                highlight.highlightName,
+                highlight.startTime,
+                highlight.endTime));
+        if (userId != null) {
+            columns.add(like.likeId);
+        }
+
+        JPAQuery<Tuple> query = queryFactory
+                .select(columns.toArray(new Expression<?>[0]))
+                .from(video)
+                .leftJoin(highlight).on(
+                        highlight.video.videoId.eq(video.videoId),
+                        highlight.deleted.isFalse());
+
+        if (userId != null) {
+            query.leftJoin(like).on(
+                    like.highlightId.eq(highlight.highlightId),
+                    like.likedUserId.eq(userId),
+                    like.isLiked.isTrue());
+        }
+
+        List<Tuple> rows = query
+                .where(
+                        video.match.matchId.eq(matchId),
+                        video.deleted.isFalse())
+                .orderBy(video.videoId.asc(), highlight.highlightId.asc())
+                .fetch();
+
+        Map<Integer, VideoDto> videoMap = new LinkedHashMap<>();
+        Map<Integer, HighlightDto> highlightMap = new HashMap<>();
+
+        for (Tuple row : rows) {
+            VideoDto videoDto = videoMap.computeIfAbsent(row.get(video.videoId), videoId -> VideoDto.builder()
+                    .videoId(videoId)
+                    .quarterNumber(row.get(video.quarterNumber))
+                    .videoUrl(row.get(video.videoUrl))
+                    .highlightList(new ArrayList<>())
+                    .build());
+
+            Integer highlightId = row.get(highlight.highlightId);
+            if (highlightId == null) {
+                continue;
+            }
+
+            // 같은 하이라이트에 좋아요 행이 여러 개면 한 번만 담기
+            boolean isLiked = userId != null && row.get(like.likeId) != null;
+            HighlightDto highlightDto = highlightMap.get(highlightId);
+            if (highlightDto != null) {
+                highlightDto.setIsLiked(highlightDto.getIsLiked() || isLiked);
+                continue;
+            }
+
+            highlightDto = HighlightDto.builder()
+                    .highlightId(highlightId)
+                    .highlightName(row.get(highlight.highlightName))
+                    .startTime(row.get(highlight.startTime))
+                    .endTime(row.get(highlight.endTime))
+                    .isLiked(isLiked)
+                    .build();
+            highlightMap.put(highlightId, highlightDto);
+            videoDto.getHighlightList().add(highlightDto);
+        }
+
+        return new ArrayList<>(videoMap.values());
+    }
+
+}
@@ -1,6 +1,9 @@
 package notfound.ballog.domain.video.response;
 
 import lombok.*;
+import notfound.ballog.domain.video.dto.LikedHighlightDto;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -10,7 +13,9 @@ import java.util.List;
 public class GetLikeResponse {
     private List<LikedHighlightInfo> highlights;
     private boolean hasNext;
-    private Integer nextCursorId;
+    // 다음 페이지 커서 (마지막 항목의 좋아요 ID, 좋아요 누른 시각)
+    private Integer nextCursorLikeId;
+    private LocalDateTime nextCursorLikedAt;
 
     @Getter
     @Builder
@@ -25,5 +30,18 @@ public class GetLikeResponse {
         private String highlightName;
         private String highlightStartTime;
         private Integer quarterNumber;
+
+        public static LikedHighlightInfo of(LikedHighlightDto dto) {
+            return LikedHighlightInfo.builder()
+                    .matchId(dto.getMatchId())
+                    .matchName(dto.getMatchName())
+                    .matchDate(dto.getMatchDate().toString())
+                    .startTime(dto.getMatchStartTime() != null ? dto.getMatchStartTime().toString() : null)
+                    .endTime(dto.getMatchEndTime() != null ? dto.getMatchEndTime().toString() : null)
+                    .highlightName(dto.getHighlightName())
+                    .highlightStartTime(dto.getHighlightStartTime().toString())
+                    .quarterNumber(dto.getQuarterNumber())
+                    .build();
+        }
     }
 }
\ No newline at end of file
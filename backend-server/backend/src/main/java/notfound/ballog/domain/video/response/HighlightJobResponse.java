@@ -0,0 +1,40 @@
+package notfound.ballog.domain.video.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import notfound.ballog.domain.video.dto.HighlightExtractionDto;
+import notfound.ballog.domain.video.entity.HighlightJob;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HighlightJobResponse {
+    private Long jobId;
+
+    private Integer videoId;
+
+    private String status;
+
+    private int attempts;
+
+    private String errorMessage;
+
+    // SUCCEEDED일 때만 채움
+    private List<HighlightExtractionDto> highlightList;
+
+    public static HighlightJobResponse of(HighlightJob job, List<HighlightExtractionDto> highlightList) {
+        return HighlightJobResponse.builder()
+                .jobId(job.getJobId())
+                .videoId(job.getVideoId())
+                .status(job.getStatus())
+                .attempts(job.getAttempts())
+                .errorMessage(job.getErrorMessage())
+                .highlightList(highlightList)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package notfound.ballog.domain.video.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import notfound.ballog.common.response.BaseResponseStatus;
+import notfound.ballog.common.utils.S3Util;
+import notfound.ballog.domain.video.detector.HighlightDetector;
+import notfound.ballog.domain.video.detector.StreamingHighlightDetector;
+import notfound.ballog.domain.video.response.ExtractHighlightResponse;
+import notfound.ballog.exception.InternalServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 하이라이트 추출 요청
+ * - remote: 영상 분석 서버(FastAPI)에 S3 presigned url만 넘겨서 분석 서버가 직접 내려받게 함
+ * - local: S3에서 임시 파일로 내려받아 서버 안에서 HighlightDetector로 분석 (분석 서버 없이 동작)
+ * - streaming: ffmpeg가 presigned url에서 내려받는 동안 StreamingHighlightDetector로 바로 분석 (임시 파일 없음)
+ * remote 호출은 bulkhead(동시 요청 수 제한) -> circuit breaker -> 요청 timeout 순서로 감싸고,
+ * 분석 서버가 막혀 있으면 기다리지 않고 VIDEO_SERVICE_UNAVAILABLE로 바로 실패시킴
+ * local/streaming은 highlight.detector.timeout-ms가 지나면 실패시키고 ffmpeg 프로세스를 종료함
+ * 두 timeout 모두 작업 lease보다 짧아야 함 (lease가 먼저 끝나면 다른 워커가 같은 작업을 다시 가져가서 두 번 추출)
+ */
+@Component
+public class HighlightExtractionClient {
+
+    private static final String LOCAL_ENGINE = "local";
+
+    private static final String STREAMING_ENGINE = "streaming";
+
+    private static final String VIDEO_SERVICE = "videoService";
+
+    private final WebClient webClient;
+    private final S3Util s3Util;
+    private final HighlightDetector highlightDetector;
+    private final StreamingHighlightDetector streamingHighlightDetector;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+    private final String engine;
+    private final Duration requestTimeout;
+    private final Duration detectorTimeout;
+
+    public HighlightExtractionClient(WebClient webClient,
+                                     S3Util s3Util,
+                                     HighlightDetector highlightDetector,
+                                     StreamingHighlightDetector streamingHighlightDetector,
+                                     CircuitBreakerRegistry circuitBreakerRegistry,
+                                     BulkheadRegistry bulkheadRegistry,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${highlight.detector.engine:remote}") String engine,
+                                     @Value("${video-service.response-timeout-ms:300000}") long requestTimeoutMs,
+                                     @Value("${highlight.detector.timeout-ms:300000}") long detectorTimeoutMs,
+                                     @Value("${highlight.job.lease-ms:600000}") long leaseMs) {
+        if (requestTimeoutMs >= leaseMs || detectorTimeoutMs >= leaseMs) {
+            throw new IllegalStateException("하이라이트 추출 timeout은 highlight.job.lease-ms보다 짧아야 합니다.");
+        }
+
+        this.webClient = webClient;
+        this.s3Util = s3Util;
+        this.highlightDetector = highlightDetector;
+        this.streamingHighlightDetector = streamingHighlightDetector;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(VIDEO_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(VIDEO_SERVICE);
+        this.meterRegistry = meterRegistry;
+        this.engine = engine;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.detectorTimeout = Duration.ofMillis(detectorTimeoutMs);
+    }
+
+    public ExtractHighlightResponse extract(String objectKey) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            ExtractHighlightResponse response = extractWithEngine(objectKey);
+            outcome = "success";
+            return response;
+        } catch (InternalServerException e) {
+            if (e.getStatus() == BaseResponseStatus.VIDEO_SERVICE_UNAVAILABLE) {
+                outcome = "rejected";
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            if (isTimeout(e)) {
+                outcome = "timeout";
+            }
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("highlight.extraction")
+                    .description("하이라이트 추출 요청 소요 시간")
+                    .tag("engine", engine)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private ExtractHighlightResponse extractWithEngine(String objectKey) throws IOException {
+        String fileName = objectKey.substring(objectKey.lastIndexOf('/') + 1);
+
+        if (LOCAL_ENGINE.equals(engine)) {
+            // timeout이 지나면 작업 스레드를 인터럽트 (ffmpeg는 FfmpegAudioDecoder의 timeout으로 종료)
+            return Mono.fromCallable(() -> extractLocally(objectKey, fileName))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .timeout(detectorTimeout)
+                    .block();
+        }
+
+        String downloadUrl = s3Util.generatePresignedGetUrl(objectKey);
+        if (STREAMING_ENGINE.equals(engine)) {
+            // timeout이 지나면 구독이 취소되면서 ffmpeg 프로세스도 종료됨
+            return ExtractHighlightResponse.of(streamingHighlightDetector.detect(downloadUrl)
+                    .collectList()
+                    .timeout(detectorTimeout)
+                    .block());
+        }
+
+        return webClient.post()
+                .uri("/api/v1/videos/highlight/extract-url")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("url", downloadUrl, "fileName", fileName))
+                .retrieve()
+                .bodyToMono(ExtractHighlightResponse.class)
+                .timeout(requestTimeout)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                        e -> new InternalServerException(BaseResponseStatus.VIDEO_SERVICE_UNAVAILABLE))
+                .block();
+    }
+
+    // Mono.timeout(TimeoutException), Netty 응답 timeout(ReadTimeoutException) 모두 포함
+    private boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ExtractHighlightResponse extractLocally(String objectKey, String fileName) throws IOException {
+        // 확장자로 디코더를 고르므로 원본 파일명을 유지
+        Path tempDir = Files.createTempDirectory("highlight-");
+        Path mediaFile = tempDir.resolve(fileName);
+        try {
+            s3Util.download(objectKey, mediaFile);
+            return ExtractHighlightResponse.of(highlightDetector.detect(mediaFile));
+        } finally {
+            Files.deleteIfExists(mediaFile);
+            Files.deleteIfExists(tempDir);
+        }
+    }
+
+}
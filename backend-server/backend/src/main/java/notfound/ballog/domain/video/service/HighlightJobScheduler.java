@@ -0,0 +1,123 @@
+package notfound.ballog.domain.video.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.common.response.BaseResponseStatus;
+import notfound.ballog.common.utils.S3Util;
+import notfound.ballog.domain.video.entity.HighlightJob;
+import notfound.ballog.domain.video.response.ExtractHighlightResponse;
+import notfound.ballog.exception.InternalServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 하이라이트 자동 추출 작업 실행
+ * - 분석 한 번에 수십 초가 걸리므로 스케줄러 스레드는 쉬는 워커에 일을 넘기기만 하고 바로 반환
+ * - 워커 수만큼만 동시에 분석 서버를 호출
+ */
+@Slf4j
+@Component
+public class HighlightJobScheduler {
+
+    private final HighlightJobService highlightJobService;
+
+    private final HighlightExtractionClient highlightExtractionClient;
+
+    private final S3Util s3Util;
+
+    private final ExecutorService workerPool;
+
+    private final Semaphore idleWorkers;
+
+    public HighlightJobScheduler(HighlightJobService highlightJobService,
+                                 HighlightExtractionClient highlightExtractionClient,
+                                 S3Util s3Util,
+                                 @Value("${highlight.job.workers:2}") int workers) {
+        this.highlightJobService = highlightJobService;
+        this.highlightExtractionClient = highlightExtractionClient;
+        this.s3Util = s3Util;
+        this.workerPool = Executors.newFixedThreadPool(workers);
+        this.idleWorkers = new Semaphore(workers);
+    }
+
+    @Scheduled(fixedDelayString = "${highlight.job.poll-delay-ms:1000}")
+    public void dispatch() {
+        while (idleWorkers.tryAcquire()) {
+            try {
+                workerPool.execute(() -> {
+                    try {
+                        drain();
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (Exception e) {
+                idleWorkers.release();
+                throw e;
+            }
+        }
+    }
+
+    // 처리할 작업이 없을 때까지 하나씩 꺼내서 처리
+    private void drain() {
+        while (true) {
+            Optional<HighlightJob> claimed;
+            try {
+                claimed = highlightJobService.claimNextJob();
+            } catch (Exception e) {
+                log.error("하이라이트 추출 작업 조회 중 오류 발생: {}", e.getMessage(), e);
+                return;
+            }
+
+            if (claimed.isEmpty()) {
+                return;
+            }
+            process(claimed.get());
+        }
+    }
+
+    private void process(HighlightJob job) {
+        boolean finished;
+        try {
+            ExtractHighlightResponse highlightResponse = highlightExtractionClient.extract(job.getObjectKey());
+            highlightJobService.completeJob(job.getJobId(), highlightResponse);
+            finished = true;
+        } catch (Exception e) {
+            try {
+                // 분석 서버가 막혀 있어서 요청을 보내지도 않은 경우는 시도 횟수를 쓰지 않고 미룸
+                finished = isVideoServiceUnavailable(e)
+                        ? highlightJobService.postponeJob(job.getJobId(), e.getMessage())
+                        : highlightJobService.failJob(job.getJobId(), e.getMessage());
+            } catch (Exception failException) {
+                // 상태를 못 남기면 RUNNING으로 남았다가 lease가 지난 뒤 다시 처리됨
+                log.error("하이라이트 추출 실패 기록 중 오류 발생 - 작업 ID: {}", job.getJobId(), failException);
+                return;
+            }
+        }
+
+        if (finished && job.isTemporaryObject()) {
+            try {
+                s3Util.deleteObject(job.getObjectKey());
+            } catch (Exception e) {
+                log.warn("하이라이트 추출용 임시 파일 삭제 실패 - objectKey: {}, 오류: {}", job.getObjectKey(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean isVideoServiceUnavailable(Exception e) {
+        return e instanceof InternalServerException internalServerException
+                && internalServerException.getStatus() == BaseResponseStatus.VIDEO_SERVICE_UNAVAILABLE;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+}
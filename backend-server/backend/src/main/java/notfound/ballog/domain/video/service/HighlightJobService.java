@@ -0,0 +1,156 @@
+package notfound.ballog.domain.video.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.common.response.BaseResponseStatus;
+import notfound.ballog.domain.video.dto.HighlightExtractionDto;
+import notfound.ballog.domain.video.entity.Highlight;
+import notfound.ballog.domain.video.entity.HighlightJob;
+import notfound.ballog.domain.video.entity.Video;
+import notfound.ballog.domain.video.repository.HighlightJobRepository;
+import notfound.ballog.domain.video.repository.HighlightRepository;
+import notfound.ballog.domain.video.repository.VideoRepository;
+import notfound.ballog.domain.video.response.ExtractHighlightResponse;
+import notfound.ballog.domain.video.response.HighlightJobResponse;
+import notfound.ballog.exception.InternalServerException;
+import notfound.ballog.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 하이라이트 자동 추출 작업 상태 관리
+ * - 트랜잭션은 작업을 꺼낼 때, 결과를 저장할 때만 짧게 잡고 영상 분석 서버 호출 중에는 잡지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HighlightJobService {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final HighlightJobRepository highlightJobRepository;
+    private final HighlightRepository highlightRepository;
+    private final VideoRepository videoRepository;
+    private final VideoCacheService videoCacheService;
+
+    @Value("${highlight.job.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${highlight.job.backoff-ms:5000}")
+    private long backoffMs;
+
+    @Value("${highlight.job.lease-ms:600000}")
+    private long leaseMs;
+
+    /** 추출 작업 등록 (같은 영상에 진행 중인 작업이 있으면 그 작업 반환) */
+    @Transactional
+    public HighlightJob submit(Integer videoId, String objectKey, boolean temporaryObject) {
+        return highlightJobRepository.findActiveJobByVideoId(videoId)
+                .orElseGet(() -> highlightJobRepository.save(HighlightJob.of(videoId, objectKey, temporaryObject)));
+    }
+
+    public Optional<HighlightJob> findActiveJob(Integer videoId) {
+        return highlightJobRepository.findActiveJobByVideoId(videoId);
+    }
+
+    /** 작업 상태 조회 (완료된 작업은 추출된 하이라이트 목록 포함) */
+    public HighlightJobResponse getJob(Long jobId) {
+        HighlightJob job = highlightJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException(BaseResponseStatus.HIGHLIGHT_JOB_NOT_FOUND));
+
+        List<HighlightExtractionDto> highlightList = null;
+        if (HighlightJob.SUCCEEDED.equals(job.getStatus())) {
+            highlightList = highlightRepository.findAllByVideo_VideoIdAndDeletedFalse(job.getVideoId()).stream()
+                    .map(HighlightExtractionDto::of)
+                    .toList();
+        }
+        return HighlightJobResponse.of(job, highlightList);
+    }
+
+    /** 처리할 차례가 된 작업 하나를 RUNNING으로 바꾸고 반환 */
+    @Transactional
+    public Optional<HighlightJob> claimNextJob() {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<HighlightJob> job = highlightJobRepository.lockNextJob(now, now.minus(Duration.ofMillis(leaseMs)));
+        job.ifPresent(HighlightJob::start);
+        return job;
+    }
+
+    /** 추출 결과 저장 후 작업 완료 처리 */
+    @Transactional
+    public void completeJob(Long jobId, ExtractHighlightResponse highlightResponse) {
+        HighlightJob job = highlightJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException(BaseResponseStatus.HIGHLIGHT_JOB_NOT_FOUND));
+
+        if (highlightResponse == null || highlightResponse.getHighlightList() == null) {
+            throw new InternalServerException(BaseResponseStatus.HIGHLIGHT_EXTRACT_FAIL);
+        }
+
+        Video video = videoRepository.findById(job.getVideoId())
+                .orElseThrow(() -> new NotFoundException(BaseResponseStatus.VIDEO_NOT_FOUND));
+
+        // 작업이 도는 사이 하이라이트가 생겼거나 다른 워커가 먼저 끝낸 경우에는 덮어쓰지 않음
+        List<Highlight> savedHighlights = List.of();
+        if (!highlightRepository.existsByVideo_VideoIdAndDeletedFalse(video.getVideoId())) {
+            // ID는 highlight_seq에서 50개 단위로 미리 받아두고 insert는 JDBC 배치 한 번으로 처리
+            savedHighlights = highlightRepository.saveAll(highlightResponse.getHighlightList().stream()
+                    .map(highlightExtractionDto -> Highlight.of(video, highlightExtractionDto))
+                    .toList());
+            videoCacheService.evictVideoList(video.getMatch().getMatchId());
+        }
+
+        job.succeed();
+        log.info("하이라이트 추출 완료 - 작업 ID: {}, 영상 ID: {}, 하이라이트 ID: {}",
+                jobId, video.getVideoId(), savedHighlights.stream().map(Highlight::getHighlightId).toList());
+    }
+
+    /** 분석 서버가 요청을 받을 수 없을 때 시도 횟수는 그대로 두고 backoffMs 뒤로 미룸 (항상 false) */
+    @Transactional
+    public boolean postponeJob(Long jobId, String message) {
+        HighlightJob job = highlightJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException(BaseResponseStatus.HIGHLIGHT_JOB_NOT_FOUND));
+
+        job.postpone(LocalDateTime.now().plus(Duration.ofMillis(backoffMs)), message);
+        log.info("영상 분석 서버 사용 불가로 하이라이트 추출 연기 - 작업 ID: {}", jobId);
+        return false;
+    }
+
+    /**
+     * 작업 실패 처리 후 더 이상 재시도하지 않으면 true 반환
+     * - 재시도 간격은 backoffMs * 2^(시도 횟수 - 1)에 지터를 더해서 분석 서버가 회복할 시간을 줌
+     */
+    @Transactional
+    public boolean failJob(Long jobId, String errorMessage) {
+        HighlightJob job = highlightJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException(BaseResponseStatus.HIGHLIGHT_JOB_NOT_FOUND));
+
+        String message = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+
+        if (job.getAttempts() >= maxAttempts) {
+            job.fail(message);
+            log.error("하이라이트 추출 최종 실패 - 작업 ID: {}, 시도 {}회, 오류: {}", jobId, job.getAttempts(), message);
+            return true;
+        }
+
+        long delayMs = Math.min(backoffMs << Math.min(job.getAttempts() - 1, 20), MAX_BACKOFF.toMillis());
+        delayMs += ThreadLocalRandom.current().nextLong(delayMs / 4 + 1);
+        job.retryAt(LocalDateTime.now().plus(Duration.ofMillis(delayMs)), message);
+
+        log.warn("하이라이트 추출 실패, {}ms 후 재시도 - 작업 ID: {}, 시도 {}회, 오류: {}",
+                delayMs, jobId, job.getAttempts(), message);
+        return false;
+    }
+
+}
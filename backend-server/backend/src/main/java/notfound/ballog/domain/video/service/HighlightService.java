@@ -5,12 +5,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notfound.ballog.common.response.BaseResponseStatus;
-import notfound.ballog.domain.match.entity.Match;
-import notfound.ballog.domain.match.repository.MatchRepository;
+import notfound.ballog.common.utils.S3Util;
 import notfound.ballog.domain.video.dto.HighlightDto;
-import notfound.ballog.domain.video.dto.HighlightExtractionDto;
+import notfound.ballog.domain.video.dto.LikedHighlightDto;
 import notfound.ballog.domain.video.entity.Highlight;
-import notfound.ballog.domain.video.entity.Like;
+import notfound.ballog.domain.video.entity.HighlightJob;
 import notfound.ballog.domain.video.entity.Video;
 import notfound.ballog.domain.video.repository.HighlightRepository;
 import notfound.ballog.domain.video.repository.LikeRepository;
@@ -19,35 +18,34 @@ import notfound.ballog.domain.video.request.AddHighlightRequest;
 import notfound.ballog.domain.video.request.UpdateHighlightRequest;
 import notfound.ballog.domain.video.request.UpdateLikeRequest;
 import notfound.ballog.domain.video.response.AddHighlightResponse;
-import notfound.ballog.domain.video.response.ExtractHighlightResponse;
 import notfound.ballog.domain.video.response.GetLikeResponse;
+import notfound.ballog.domain.video.response.HighlightJobResponse;
 import notfound.ballog.exception.DuplicateDataException;
-import notfound.ballog.exception.InternalServerException;
 import notfound.ballog.exception.NotFoundException;
-import org.springframework.core.io.ByteArrayResource;
+import notfound.ballog.exception.ValidationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.http.MediaType;
-import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class HighlightService {
 
-    private final MatchRepository matchRepository;
     private final LikeRepository likeRepository;
     private final HighlightRepository highlightRepository;
     private final VideoRepository videoRepository;
-    private final WebClient webClient;
+    private final HighlightJobService highlightJobService;
+    private final VideoCacheService videoCacheService;
+    private final LikeService likeService;
+    private final S3Util s3Util;
 
     @Transactional
     public void updateHighlight(UpdateHighlightRequest request) {
@@ -57,6 +55,8 @@ public class HighlightService {
         highlight.update(request);
 
         highlightRepository.save(highlight);
+
+        videoCacheService.evictVideoList(highlight.getVideo().getMatch().getMatchId());
     }
 
     @Transactional
@@ -67,6 +67,8 @@ public class HighlightService {
         highlight.delete();
 
         highlightRepository.save(highlight);
+
+        videoCacheService.evictVideoList(highlight.getVideo().getMatch().getMatchId());
     }
 
     @Transactional
@@ -78,191 +80,114 @@ public class HighlightService {
 
         Highlight savedHighlight = highlightRepository.save(highlight);
 
+        videoCacheService.evictVideoList(video.getMatch().getMatchId());
+
         return AddHighlightResponse.of(savedHighlight.getHighlightId());
     }
 
-    @Transactional
-    public ExtractHighlightResponse extractHighlight(Integer videoId, MultipartFile file) throws IOException {
+    /**
+     * 업로드한 영상으로 하이라이트 자동 추출 작업 등록
+     * - 업로드 파일은 임시 파일에서 S3로 옮겨두고 작업에는 objectKey만 남김 (영상 전체를 힙에 올리지 않음)
+     * - 분석은 HighlightJobScheduler가 처리하고 결과는 작업 상태 조회로 확인
+     */
+    public HighlightJobResponse extractHighlight(Integer videoId, MultipartFile file) throws IOException {
+        validateExtractable(videoId);
+
+        Optional<HighlightJob> activeJob = highlightJobService.findActiveJob(videoId);
+        if (activeJob.isPresent()) {
+            return HighlightJobResponse.of(activeJob.get(), null);
+        }
+
+        String objectKey = s3Util.generateObjectKey(Objects.requireNonNullElse(file.getOriginalFilename(), "video"), "highlight-source");
+        Path tempFile = Files.createTempFile("highlight-", "-" + UUID.randomUUID());
+        try {
+            file.transferTo(tempFile);
+            s3Util.upload(objectKey, tempFile, file.getContentType());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        return submitJob(videoId, objectKey, true);
+    }
+
+    /** S3에 업로드된 영상으로 하이라이트 자동 추출 작업 등록 */
+    public HighlightJobResponse extractHighlightFromS3(Integer videoId) {
+        Video video = validateExtractable(videoId);
+
+        return submitJob(videoId, s3Util.extractObjectKey(video.getVideoUrl()), false);
+    }
+
+    public HighlightJobResponse getHighlightJob(Long jobId) {
+        return highlightJobService.getJob(jobId);
+    }
+
+    private Video validateExtractable(Integer videoId) {
         // Video 조회
         Video video = videoRepository.findById(videoId)
                 .orElseThrow(() -> new NotFoundException(BaseResponseStatus.VIDEO_NOT_FOUND));
 
-        // Highlight 조회(Highlight가 하나도 없을 때만 자동 추출)
-        Optional<Highlight> existingHighlight = highlightRepository.findByVideo_VideoIdAndDeletedFalse(videoId);
-        if (existingHighlight.isPresent()) {
+        // Highlight가 하나도 없을 때만 자동 추출
+        if (highlightRepository.existsByVideo_VideoIdAndDeletedFalse(videoId)) {
             throw new DuplicateDataException(BaseResponseStatus.HIGHLIGHT_ALREADY_EXIST);
         }
+        return video;
+    }
 
-        // 파일을 담은 form-data 생성
-        MultipartBodyBuilder builder = new MultipartBodyBuilder();
-        builder.part("file",
-                new ByteArrayResource(file.getBytes()) {
-                    @Override public String getFilename() {
-                        return file.getOriginalFilename();
-                    }
-                })
-                .header("Content-Type", file.getContentType());
-
-        // fastAPI로 post 요청
-        ExtractHighlightResponse highlightResponse = webClient.post()
-                .uri("/api/v1/videos/highlight/extract")
-                .contentType(MediaType.MULTIPART_FORM_DATA)
-                .body(BodyInserters.fromMultipartData(builder.build()))
-                .retrieve()
-                .bodyToMono(ExtractHighlightResponse.class)
-                .block();
-
-        // DB에 하이라이트 저장
-        List<HighlightExtractionDto> highlightList = null;
-        if (highlightResponse != null) {
-            highlightList = highlightResponse.getHighlightList();
-            log.info("하이라이트 리스트--------------- {}", highlightList);
+    private HighlightJobResponse submitJob(Integer videoId, String objectKey, boolean temporaryObject) {
+        HighlightJob job;
+        try {
+            job = highlightJobService.submit(videoId, objectKey, temporaryObject);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 영상으로 동시에 들어온 요청이 먼저 작업을 만든 경우
+            job = highlightJobService.findActiveJob(videoId).orElseThrow(() -> e);
         }
 
-        List<HighlightExtractionDto> savedHighlightList = new ArrayList<>();
-        if (highlightList != null) {
-            log.info("하이라이트 갯수--------------- {}", highlightList.size());
-            for (HighlightExtractionDto highlightExtractionDto : highlightList) {
-                Highlight highlight = Highlight.of(video, highlightExtractionDto);
-
-                Highlight savedHighlight = highlightRepository.save(highlight);
-
-                savedHighlightList.add(HighlightExtractionDto.of(savedHighlight));
-            }
-        } else {
-            throw new InternalServerException(BaseResponseStatus.HIGHLIGHT_EXTRACT_FAIL);
+        // 이미 진행 중인 작업으로 대체됐으면 방금 올린 임시 파일은 필요 없음
+        if (temporaryObject && !objectKey.equals(job.getObjectKey())) {
+            s3Util.deleteObject(objectKey);
         }
-
-        return ExtractHighlightResponse.of(savedHighlightList);
+        return HighlightJobResponse.of(job, null);
     }
 
 
-    @Transactional
     public void updateLikes(UUID userId, @Valid UpdateLikeRequest request) {
         List<Integer> highlightIds = request.getHighlightIds();
 
         // 모든 하이라이트가 존재하는지 먼저 확인
-        List<Highlight> highlights = highlightRepository.findAllById(highlightIds);
-        if (highlights.size() != highlightIds.size()) {
+        if (highlightRepository.countByHighlightIdIn(highlightIds) != highlightIds.size()) {
             throw new NotFoundException(BaseResponseStatus.HIGHLIGHT_NOT_FOUND);
         }
 
-        // 이 사용자와 이 하이라이트들에 대한 기존 좋아요 가져오기
-        List<Like> existingLikes = likeRepository.findAllByLikedUserIdAndHighlightIdIn(userId, highlightIds);
-
-        // 빠른 조회를 위한 맵 생성
-        Map<Integer, Like> likeMap = existingLikes.stream()
-                .collect(Collectors.toMap(Like::getHighlightId, like -> like));
-
-        List<Like> likesToSave = new ArrayList<>();
-
-        for (Integer highlightId : highlightIds) {
-            if (likeMap.containsKey(highlightId)) {
-                // 기존 좋아요 토글
-                Like existingLike = likeMap.get(highlightId);
-                existingLike.toggleLikeStatus();
-                likesToSave.add(existingLike);
-            } else {
-                // 새 좋아요 생성
-                Like newLike = Like.builder()
-                        .highlightId(highlightId)
-                        .likedUserId(userId)
-                        .isLiked(true)
-                        .build();
-                likesToSave.add(newLike);
-            }
-        }
-
-        // 모든 좋아요를 일괄 저장
-        likeRepository.saveAll(likesToSave);
+        // Redis에서 토글하고 DB에는 LikeFlushScheduler가 모아서 반영
+        likeService.toggleLikes(userId, highlightIds);
     }
 
 
     @Transactional
-    public GetLikeResponse getLikedHighlights(UUID userId, Integer cursorId, Pageable pageable) {
-        // 1. Slice 객체로 좋아요 데이터 조회
-        Slice<Like> likesSlice = likeRepository.findLikedHighlightsWithCursor(userId, cursorId, pageable);
-
-        List<Like> likes = likesSlice.getContent();
-        if (likes.isEmpty()) {
-            return GetLikeResponse.builder()
-                    .highlights(Collections.emptyList())
-                    .hasNext(false)
-                    .nextCursorId(null)
-                    .build();
+    public GetLikeResponse getLikedHighlights(UUID userId, Integer cursorLikeId, LocalDateTime cursorLikedAt, Pageable pageable) {
+        // 커서는 (좋아요 누른 시각, 좋아요 ID) 둘 다 있거나 둘 다 없어야 함
+        if ((cursorLikeId == null) != (cursorLikedAt == null)) {
+            throw new ValidationException(BaseResponseStatus.INVALID_LIKE_CURSOR);
         }
 
-        // 2. 다음 페이지 여부 및 다음 커서 ID 설정
-        boolean hasNext = likesSlice.hasNext();
-        Integer nextCursorId = hasNext ? likes.get(likes.size() - 1).getHighlightId() : null;
-
-        // 3. 하이라이트 ID 추출
-        List<Integer> highlightIds = likes.stream()
-                .map(Like::getHighlightId)
-                .collect(Collectors.toList());
-
-        // 4. 하이라이트 정보 조회
-        List<Highlight> highlights = highlightRepository.findAllById(highlightIds);
-
-        // 5. 하이라이트에서 비디오 ID 추출
-        List<Integer> videoIds = highlights.stream()
-                .map(highlight -> highlight.getVideo().getVideoId())
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 6. 비디오 정보 조회
-        List<Video> videos = videoRepository.findAllById(videoIds);
-
-        // 7. 비디오에서 매치 ID 추출
-        List<Integer> matchIds = videos.stream()
-                .map(video -> video.getMatch().getMatchId())
-                .distinct()
-                .collect(Collectors.toList());
+        int size = pageable.getPageSize();
 
-        // 8. 매치 정보 조회
-        List<Match> matches = matchRepository.findAllById(matchIds);
+        // 1. 다음 페이지 여부 확인을 위해 한 개 더 조회 (좋아요 -> 하이라이트 -> 영상 -> 경기 한 번에 조인)
+        List<LikedHighlightDto> likedHighlights = likeRepository.findLikedHighlights(userId, cursorLikedAt, cursorLikeId, size + 1);
 
-        // 9. 빠른 조회를 위한 맵 생성
-        Map<Integer, Highlight> highlightMap = highlights.stream()
-                .collect(Collectors.toMap(Highlight::getHighlightId, h -> h));
-
-        Map<Integer, Video> videoMap = videos.stream()
-                .collect(Collectors.toMap(Video::getVideoId, v -> v));
-
-        Map<Integer, Match> matchMap = matches.stream()
-                .collect(Collectors.toMap(Match::getMatchId, m -> m));
-
-        // 10. 응답 구성
-        List<GetLikeResponse.LikedHighlightInfo> highlightInfos = new ArrayList<>();
-
-        for (Like like : likes) {
-            Highlight highlight = highlightMap.get(like.getHighlightId());
-            if (highlight == null) continue;
-
-            Video video = videoMap.get(highlight.getVideo().getVideoId());
-            if (video == null) continue;
-
-            Match match = matchMap.get(video.getMatch().getMatchId());
-            if (match == null) continue;
-
-            GetLikeResponse.LikedHighlightInfo info = GetLikeResponse.LikedHighlightInfo.builder()
-                    .matchId(match.getMatchId())
-                    .matchName(match.getMatchName())
-                    .matchDate(match.getMatchDate().toString())
-                    .startTime(match.getStartTime() != null ? match.getStartTime().toString() : null)
-                    .endTime(match.getEndTime() != null ? match.getEndTime().toString() : null)
-                    .highlightName(highlight.getHighlightName())
-                    .highlightStartTime(highlight.getStartTime().toString())
-                    .quarterNumber(video.getQuarterNumber())
-                    .build();
-
-            highlightInfos.add(info);
+        boolean hasNext = likedHighlights.size() > size;
+        if (hasNext) {
+            likedHighlights = likedHighlights.subList(0, size);
         }
 
+        // 2. 다음 커서는 마지막 항목의 (좋아요 누른 시각, 좋아요 ID)
+        LikedHighlightDto last = hasNext ? likedHighlights.get(likedHighlights.size() - 1) : null;
+
         return GetLikeResponse.builder()
-                .highlights(highlightInfos)
+                .highlights(likedHighlights.stream().map(GetLikeResponse.LikedHighlightInfo::of).toList())
                 .hasNext(hasNext)
-                .nextCursorId(nextCursorId)
+                .nextCursorLikeId(last != null ? last.getLikeId() : null)
+                .nextCursorLikedAt(last != null ? last.getLikedAt() : null)
                 .build();
     }
 }
@@ -0,0 +1,35 @@
+package notfound.ballog.domain.video.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeFlushScheduler {
+
+    private final LikeService likeService;
+
+    // Redis에 쌓인 좋아요 변경을 주기적으로 DB에 반영 (write-behind)
+    @Scheduled(fixedDelayString = "${like.flush.delay-ms:1000}")
+    public void flushLikes() {
+        try {
+            int flushed = likeService.flushPending();
+            if (flushed > 0) {
+                log.debug("좋아요 {}건 DB 반영", flushed);
+            }
+        } catch (Exception e) {
+            log.error("좋아요 DB 반영 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    // 종료 전에 남은 변경 반영
+    @PreDestroy
+    public void shutdown() {
+        flushLikes();
+    }
+
+}
@@ -0,0 +1,295 @@
+package notfound.ballog.domain.video.service;
+
+import lombok.RequiredArgsConstructor;
+import notfound.ballog.domain.video.dto.LikeUpdateDto;
+import notfound.ballog.domain.video.entity.Like;
+import notfound.ballog.domain.video.repository.LikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 좋아요 상태 관리 (DB에는 LikeFlushScheduler가 모아서 반영)
+ * - like:highlight:{highlightId}:users  하이라이트별 좋아요 누른 유저 ID Set
+ * - like:highlight:{highlightId}:count  하이라이트별 좋아요 수 (있으면 적재 완료)
+ * - like:user:{userId}:highlights       유저별 좋아요 누른 하이라이트 ZSet (score = 누른 시각)
+ * - like:pending                        DB 반영 대기 중인 최종 상태 ("userId:highlightId" -> "1|0:시각")
+ * Redis에 없는 하이라이트/유저는 처음 접근할 때 DB에서 적재
+ * - 하이라이트/유저 키는 접근할 때마다 TTL(like.cache.ttl-days)을 갱신, 오래 안 쓰인 키는 만료되고 다음 접근 때 다시 적재
+ */
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private static final String HIGHLIGHT_KEY_PREFIX = "like:highlight:";
+
+    private static final String USER_KEY_PREFIX = "like:user:";
+
+    private static final String PENDING_KEY = "like:pending";
+
+    private static final String FLUSHING_KEY = "like:pending:flushing";
+
+    private static final String FLUSH_LOCK_KEY = "like:flush:lock";
+
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    private static final ZoneId ZONE_ID = ZoneId.systemDefault();
+
+    // 좋아요 토글 (적재 안 된 상태면 -1, 취소되면 0, 눌리면 1), ARGV[4] = TTL(초)
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 or redis.call('EXISTS', KEYS[3]) == 0 then
+                return -1
+            end
+            local field = ARGV[1] .. ':' .. ARGV[2]
+            local liked = 1
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                redis.call('SREM', KEYS[1], ARGV[1])
+                redis.call('ZREM', KEYS[3], ARGV[2])
+                redis.call('DECR', KEYS[2])
+                redis.call('HSET', KEYS[4], field, '0:' .. ARGV[3])
+                liked = 0
+            else
+                redis.call('SADD', KEYS[1], ARGV[1])
+                redis.call('ZADD', KEYS[3], ARGV[3], ARGV[2])
+                redis.call('INCR', KEYS[2])
+                redis.call('HSET', KEYS[4], field, '1:' .. ARGV[3])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            redis.call('EXPIRE', KEYS[3], ARGV[4])
+            return liked
+            """, Long.class);
+
+    // 하이라이트 좋아요 적재 (ARGV[1] = TTL(초), 나머지는 유저 ID, 이미 있으면 건너뜀)
+    private static final RedisScript<Long> LOAD_HIGHLIGHT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            for i = 2, #ARGV do
+                redis.call('SADD', KEYS[1], ARGV[i])
+            end
+            redis.call('SET', KEYS[2], #ARGV - 1, 'EX', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 유저 좋아요 목록 적재 (ARGV[1] = TTL(초), 나머지는 score, member 반복, 이미 있으면 건너뜀)
+    // 좋아요가 하나도 없는 유저도 적재 완료로 보기 위해 '0' 표시를 넣어둠 (하이라이트 ID는 1부터 시작)
+    private static final RedisScript<Long> LOAD_USER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], 0, '0')
+            for i = 2, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final LikeRepository likeRepository;
+
+    @Value("${like.cache.ttl-days:7}")
+    private long cacheTtlDays;
+
+    /** 하이라이트들의 좋아요 토글 */
+    public void toggleLikes(UUID userId, List<Integer> highlightIds) {
+        loadUser(userId);
+        loadHighlights(highlightIds);
+
+        String now = String.valueOf(System.currentTimeMillis());
+        for (Integer highlightId : highlightIds) {
+            Long result = toggle(userId, highlightId, now);
+
+            // 적재와 토글 사이에 키가 사라진 경우 한 번 더 적재 후 재시도
+            if (result != null && result < 0) {
+                loadUser(userId);
+                loadHighlights(List.of(highlightId));
+                toggle(userId, highlightId, now);
+            }
+        }
+    }
+
+    /** 주어진 하이라이트 중 유저가 좋아요 누른 하이라이트 ID */
+    public Set<Integer> findLikedAmong(UUID userId, List<Integer> highlightIds) {
+        if (highlightIds.isEmpty()) {
+            return Set.of();
+        }
+        loadUser(userId);
+
+        List<Double> scores = redisTemplate.opsForZSet()
+                .score(userKey(userId), highlightIds.stream().map(String::valueOf).toArray());
+
+        Set<Integer> likedIds = new HashSet<>();
+        if (scores != null) {
+            for (int i = 0; i < highlightIds.size(); i++) {
+                if (scores.get(i) != null) {
+                    likedIds.add(highlightIds.get(i));
+                }
+            }
+        }
+        return likedIds;
+    }
+
+    /** 하이라이트별 좋아요 수 */
+    public Map<Integer, Integer> getLikeCounts(List<Integer> highlightIds) {
+        return loadHighlights(highlightIds);
+    }
+
+    /**
+     * 대기 중인 좋아요 변경을 DB에 일괄 반영하고 반영한 개수 반환
+     * - 대기 Hash를 이름만 바꿔서 떼어내므로 반영 중에 들어온 토글은 다음 차례로 넘어감
+     * - DB 반영에 실패하면 떼어낸 Hash를 남겨두고 다음 차례에 다시 시도
+     */
+    public int flushPending() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL))) {
+            return 0;
+        }
+
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+                    return 0;
+                }
+                redisTemplate.rename(PENDING_KEY, FLUSHING_KEY);
+            }
+
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+            List<LikeUpdateDto> likeUpdates = entries.entrySet().stream()
+                    .map(entry -> toLikeUpdate(entry.getKey().toString(), entry.getValue().toString()))
+                    .toList();
+
+            likeRepository.upsertAll(likeUpdates);
+            redisTemplate.delete(FLUSHING_KEY);
+
+            return likeUpdates.size();
+        } finally {
+            if (token.equals(redisTemplate.opsForValue().get(FLUSH_LOCK_KEY))) {
+                redisTemplate.delete(FLUSH_LOCK_KEY);
+            }
+        }
+    }
+
+    private Long toggle(UUID userId, Integer highlightId, String now) {
+        return redisTemplate.execute(TOGGLE_SCRIPT,
+                List.of(highlightUsersKey(highlightId), highlightCountKey(highlightId), userKey(userId), PENDING_KEY),
+                userId.toString(), String.valueOf(highlightId), now, ttlSeconds());
+    }
+
+    private void loadUser(UUID userId) {
+        // 이미 적재된 키는 TTL만 갱신
+        String key = userKey(userId);
+        if (Boolean.TRUE.equals(redisTemplate.expire(key, cacheTtl()))) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(ttlSeconds());
+        for (Like like : likeRepository.findAllByLikedUserIdAndIsLikedTrue(userId)) {
+            args.add(String.valueOf(toMillis(like.getCreatedAt())));
+            args.add(String.valueOf(like.getHighlightId()));
+        }
+
+        redisTemplate.execute(LOAD_USER_SCRIPT, List.of(key), args.toArray());
+    }
+
+    // 적재 안 된 하이라이트만 한 번에 DB에서 읽어서 적재하고, 하이라이트별 좋아요 수 반환
+    private Map<Integer, Integer> loadHighlights(Collection<Integer> highlightIds) {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(highlightIds));
+        List<String> counts = redisTemplate.opsForValue().multiGet(ids.stream().map(this::highlightCountKey).toList());
+
+        Map<Integer, Integer> countMap = new HashMap<>();
+        List<Integer> missingIds = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String count = counts != null ? counts.get(i) : null;
+            if (count != null) {
+                countMap.put(ids.get(i), Integer.valueOf(count));
+            } else {
+                missingIds.add(ids.get(i));
+            }
+        }
+
+        // 이미 적재된 하이라이트는 TTL만 갱신 (한 번에 전송)
+        if (!countMap.isEmpty()) {
+            long ttlSeconds = cacheTtl().getSeconds();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Integer highlightId : countMap.keySet()) {
+                    connection.keyCommands().expire(highlightCountKey(highlightId).getBytes(StandardCharsets.UTF_8), ttlSeconds);
+                    connection.keyCommands().expire(highlightUsersKey(highlightId).getBytes(StandardCharsets.UTF_8), ttlSeconds);
+                }
+                return null;
+            });
+        }
+
+        if (missingIds.isEmpty()) {
+            return countMap;
+        }
+
+        Map<Integer, List<String>> userIdsByHighlight = likeRepository.findAllByHighlightIdInAndIsLikedTrue(missingIds).stream()
+                .collect(Collectors.groupingBy(Like::getHighlightId,
+                        Collectors.mapping(like -> like.getLikedUserId().toString(), Collectors.toList())));
+
+        for (Integer highlightId : missingIds) {
+            List<String> userIds = userIdsByHighlight.getOrDefault(highlightId, List.of());
+            List<String> args = new ArrayList<>(userIds.size() + 1);
+            args.add(ttlSeconds());
+            args.addAll(userIds);
+            redisTemplate.execute(LOAD_HIGHLIGHT_SCRIPT,
+                    List.of(highlightUsersKey(highlightId), highlightCountKey(highlightId)), args.toArray());
+            countMap.put(highlightId, userIds.size());
+        }
+        return countMap;
+    }
+
+    private LikeUpdateDto toLikeUpdate(String field, String value) {
+        int fieldSeparator = field.lastIndexOf(':');
+        int valueSeparator = value.indexOf(':');
+        long changedAtMillis = Long.parseLong(value.substring(valueSeparator + 1));
+
+        return LikeUpdateDto.builder()
+                .userId(UUID.fromString(field.substring(0, fieldSeparator)))
+                .highlightId(Integer.valueOf(field.substring(fieldSeparator + 1)))
+                .liked("1".equals(value.substring(0, valueSeparator)))
+                .changedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(changedAtMillis), ZONE_ID))
+                .build();
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZONE_ID).toInstant().toEpochMilli() : 0L;
+    }
+
+    private Duration cacheTtl() {
+        return Duration.ofDays(cacheTtlDays);
+    }
+
+    private String ttlSeconds() {
+        return String.valueOf(cacheTtl().getSeconds());
+    }
+
+    private String highlightUsersKey(Integer highlightId) {
+        return HIGHLIGHT_KEY_PREFIX + highlightId + ":users";
+    }
+
+    private String highlightCountKey(Integer highlightId) {
+        return HIGHLIGHT_KEY_PREFIX + highlightId + ":count";
+    }
+
+    private String userKey(UUID userId) {
+        return USER_KEY_PREFIX + userId + ":highlights";
+    }
+
+}
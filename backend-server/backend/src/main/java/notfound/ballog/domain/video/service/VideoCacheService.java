@@ -0,0 +1,150 @@
+package notfound.ballog.domain.video.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import notfound.ballog.domain.video.dto.HighlightDto;
+import notfound.ballog.domain.video.dto.VideoDto;
+import notfound.ballog.domain.video.response.GetVideoListResponse;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 경기 영상/하이라이트 목록 캐시
+ * - 사용자 공통 목록은 로컬(Caffeine) -> Redis -> DB 순서로 조회
+ * - 캐시 키에 경기별 버전을 붙이고, 영상/하이라이트가 바뀌면 버전만 올려서 모든 서버의 캐시를 한 번에 무효화
+ * - 좋아요 여부/좋아요 수는 LikeService(Redis)에서 덮어씌움
+ */
+@Slf4j
+@Service
+public class VideoCacheService {
+
+    private static final String VERSION_KEY_PREFIX = "videoList:version:";
+
+    private static final String VIDEO_LIST_KEY_PREFIX = "videoList:";
+
+    private static final Duration VIDEO_LIST_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final LikeService likeService;
+
+    private final Cache<String, GetVideoListResponse> localCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(VIDEO_LIST_TTL)
+            .build();
+
+    public VideoCacheService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, LikeService likeService) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.likeService = likeService;
+    }
+
+    /**
+     * 경기 영상 목록 조회
+     * - 같은 서버에서 동시에 들어온 요청은 로컬 캐시에서 한 번만 로드 (경기 직후 팀원이 한꺼번에 여는 경우)
+     * - loader는 좋아요 여부 없이 사용자 공통 목록을 만들어야 함
+     */
+    public GetVideoListResponse getVideoList(Integer matchId, UUID userId, Supplier<GetVideoListResponse> loader) {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + matchId);
+        String cacheKey = VIDEO_LIST_KEY_PREFIX + matchId + ":" + (version != null ? version : "0");
+
+        GetVideoListResponse shared = localCache.get(cacheKey, key -> loadShared(key, loader));
+
+        return overlayLikes(shared, userId);
+    }
+
+    /** 경기 영상 목록 캐시 무효화 (커밋 이후 버전 증가, 이전 버전 캐시는 TTL로 정리) */
+    public void evictVideoList(Integer matchId) {
+        runAfterCommit(() -> redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + matchId));
+    }
+
+    private GetVideoListResponse loadShared(String cacheKey, Supplier<GetVideoListResponse> loader) {
+        String cached = redisTemplate.opsForValue().get(cacheKey);
+        if (cached != null) {
+            try {
+                return objectMapper.readValue(cached, GetVideoListResponse.class);
+            } catch (JsonProcessingException e) {
+                log.warn("영상 목록 캐시 역직렬화 실패 - 키: {}, 오류: {}", cacheKey, e.getMessage());
+            }
+        }
+
+        GetVideoListResponse loaded = loader.get();
+
+        try {
+            redisTemplate.opsForValue().set(cacheKey, objectMapper.writeValueAsString(loaded), VIDEO_LIST_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("영상 목록 캐시 직렬화 실패 - 키: {}, 오류: {}", cacheKey, e.getMessage());
+        }
+        return loaded;
+    }
+
+    // 공통 목록은 여러 요청이 공유하므로 복사본에 좋아요 여부를 채워서 반환
+    private GetVideoListResponse overlayLikes(GetVideoListResponse shared, UUID userId) {
+        if (shared.getQuarterList() == null) {
+            return GetVideoListResponse.emptyOf(shared.getTotalQuarters());
+        }
+
+        List<Integer> highlightIds = shared.getQuarterList().stream()
+                .flatMap(videoDto -> videoDto.getHighlightList().stream())
+                .map(HighlightDto::getHighlightId)
+                .toList();
+
+        Set<Integer> likedIds = likeService.findLikedAmong(userId, highlightIds);
+        Map<Integer, Integer> likeCounts = highlightIds.isEmpty() ? Map.of() : likeService.getLikeCounts(highlightIds);
+
+        List<VideoDto> videoDtoList = shared.getQuarterList().stream()
+                .map(videoDto -> VideoDto.builder()
+                        .videoId(videoDto.getVideoId())
+                        .quarterNumber(videoDto.getQuarterNumber())
+                        .videoUrl(videoDto.getVideoUrl())
+                        .highlightList(videoDto.getHighlightList().stream()
+                                .map(highlightDto -> HighlightDto.builder()
+                                        .highlightId(highlightDto.getHighlightId())
+                                        .highlightName(highlightDto.getHighlightName())
+                                        .startTime(highlightDto.getStartTime())
+                                        .endTime(highlightDto.getEndTime())
+                                        .isLiked(likedIds.contains(highlightDto.getHighlightId()))
+                                        .likeCount(likeCounts.getOrDefault(highlightDto.getHighlightId(), 0))
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
+
+        return GetVideoListResponse.of(shared.getTotalQuarters(), videoDtoList);
+    }
+
+    // 롤백된 변경으로 캐시가 무효화되거나, 커밋 전 데이터로 캐시가 다시 채워지지 않도록 커밋 이후 실행
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(action);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(action);
+            }
+        });
+    }
+
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("영상 목록 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+}
@@ -1,18 +1,14 @@
 package notfound.ballog.domain.video.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import notfound.ballog.common.response.BaseResponseStatus;
 import notfound.ballog.common.utils.S3Util;
 import notfound.ballog.domain.match.entity.Match;
 import notfound.ballog.domain.match.repository.MatchRepository;
 import notfound.ballog.domain.quarter.repository.QuarterRepository;
-import notfound.ballog.domain.video.dto.HighlightDto;
 import notfound.ballog.domain.video.dto.VideoDto;
-import notfound.ballog.domain.video.entity.Highlight;
-import notfound.ballog.domain.video.entity.Like;
 import notfound.ballog.domain.video.entity.Video;
-import notfound.ballog.domain.video.repository.HighlightRepository;
-import notfound.ballog.domain.video.repository.LikeRepository;
 import notfound.ballog.domain.video.repository.VideoRepository;
 import notfound.ballog.domain.video.request.AddS3VideoUrlRequest;
 import notfound.ballog.domain.video.request.AddVideoRequest;
@@ -21,6 +17,8 @@ import notfound.ballog.domain.video.response.GetVideoListResponse;
 import notfound.ballog.exception.InternalServerException;
 import notfound.ballog.exception.NotFoundException;
 import notfound.ballog.exception.ValidationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,23 +27,22 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class VideoService {
 
-    private final LikeRepository likeRepository;
-
     private final VideoRepository videoRepository;
 
-    private final HighlightRepository highlightRepository;
-
     private final MatchRepository matchRepository;
 
     private final QuarterRepository quarterRepository;
 
     private final S3Util s3Util;
 
+    private final VideoCacheService videoCacheService;
+
     @Transactional
     public AddS3VideoUrlResponse addS3Url(AddS3VideoUrlRequest request) {
         Integer matchId = request.getMatchId();
@@ -77,6 +74,8 @@ public class VideoService {
         Video video = Video.ofVideoUrl(match, objectUrl);
         Video savedVideo = videoRepository.save(video);
 
+        videoCacheService.evictVideoList(matchId);
+
         return AddS3VideoUrlResponse.of(presignedUrl, savedVideo.getVideoId());
     }
 
@@ -110,43 +109,32 @@ public class VideoService {
         video.save(request.getQuarterNumber(), request.getVideoUrl(), videoDuration);
 
         videoRepository.save(video);
+
+        videoCacheService.evictVideoList(request.getMatchId());
     }
 
 
     public GetVideoListResponse getVideo(Integer matchId, UUID userId) {
+        try {
+            // 사용자 공통 목록은 캐시에서, 좋아요 여부만 사용자별로 덮어씌움
+            return videoCacheService.getVideoList(matchId, userId, () -> loadVideoList(matchId, null));
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("영상 목록 캐시 조회 실패, DB에서 직접 조회 - 경기 ID: {}, 오류: {}", matchId, e.getMessage());
+            return loadVideoList(matchId, userId);
+        }
+    }
+
+    // userId가 null이면 좋아요 여부는 모두 false
+    private GetVideoListResponse loadVideoList(Integer matchId, UUID userId) {
         // 1. 총 쿼터 수 조회
         Integer totalQuarters = quarterRepository.countByMatchId(matchId);
 
-        // 2. 쿼터 영상 조회 -> 없으면 null로 반환
-        List<Video> videoList = videoRepository.findAllByMatch_MatchIdAndDeletedFalse(matchId);
-        if (videoList.isEmpty()) {
+        // 2. 쿼터 영상, 하이라이트, 사용자의 좋아요 여부를 한 번에 조회 -> 없으면 null로 반환
+        List<VideoDto> videoDtoList = videoRepository.findVideoListByMatchIdAndUserId(matchId, userId);
+        if (videoDtoList.isEmpty()) {
             return GetVideoListResponse.emptyOf(totalQuarters);
         }
 
-        // 3. 각 영상별로 하이라이트 목록과, 각 하이라이트에 대해 사용자가 좋아요를 눌렀는지 여부를 포함한 DTO 생성
-        List<VideoDto> videoDtoList = videoList.stream()
-                .map(video -> {
-                    Integer videoId = video.getVideoId();
-                    List<Highlight> highlightList = highlightRepository.findAllByVideo_VideoIdAndDeletedFalse(videoId);
-
-                    // 각 하이라이트별로, 현재 사용자가 좋아요를 눌렀는지 여부를 판단하여 DTO로 변환
-                    List<HighlightDto> highlightDtoList = highlightList.stream()
-                            .map(highlight -> {
-                                // likeRepository를 통해 해당 하이라이트에 대해 사용자가 좋아요를 눌렀는지 조회
-                                boolean isLiked = likeRepository.findAllByLikedUserIdAndHighlightIdIn(
-                                        userId, List.of(highlight.getHighlightId()))
-                                        .stream()
-                                        .anyMatch(Like::getIsLiked);
-                                // 좋아요 여부를 포함하여 DTO 생성
-                                return HighlightDto.of(highlight, isLiked);
-                            })
-                            .toList();
-
-                    // 영상과 하이라이트 DTO 리스트로 VideoDto 생성
-                    return VideoDto.of(video, highlightDtoList);
-                })
-                .toList();
-
         // 전체 쿼터 수와 영상 DTO 리스트로 응답 생성
         return GetVideoListResponse.of(totalQuarters, videoDtoList);
     }
@@ -159,5 +147,7 @@ public class VideoService {
         video.delete();
 
         videoRepository.save(video);
+
+        videoCacheService.evictVideoList(video.getMatch().getMatchId());
     }
 }
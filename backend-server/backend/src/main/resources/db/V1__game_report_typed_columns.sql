@@ -0,0 +1,35 @@
+-- GameReport 정형 컬럼 백필
+-- ddl-auto(update)로 컬럼이 추가된 뒤 1회 실행
+-- 기존 jsonb(report_data)에서 수치 데이터와 16x10 히트맵(160 bytes)을 꺼내 채움
+
+ALTER TABLE game_report ADD COLUMN IF NOT EXISTS distance double precision;
+ALTER TABLE game_report ADD COLUMN IF NOT EXISTS avg_speed double precision;
+ALTER TABLE game_report ADD COLUMN IF NOT EXISTS max_speed double precision;
+ALTER TABLE game_report ADD COLUMN IF NOT EXISTS sprint integer;
+ALTER TABLE game_report ADD COLUMN IF NOT EXISTS avg_heart_rate integer;
+ALTER TABLE game_report ADD COLUMN IF NOT EXISTS max_heart_rate integer;
+ALTER TABLE game_report ADD COLUMN IF NOT EXISTS start_time time;
+ALTER TABLE game_report ADD COLUMN IF NOT EXISTS end_time time;
+ALTER TABLE game_report ADD COLUMN IF NOT EXISTS heatmap bytea;
+
+UPDATE game_report gr
+SET distance       = COALESCE((gr.report_data ->> 'distance')::double precision, 0),
+    avg_speed      = COALESCE((gr.report_data ->> 'avgSpeed')::double precision, 0),
+    max_speed      = COALESCE((gr.report_data ->> 'maxSpeed')::double precision, 0),
+    sprint         = COALESCE(round((gr.report_data ->> 'sprint')::numeric)::integer, 0),
+    avg_heart_rate = COALESCE(round((gr.report_data ->> 'avgHeartRate')::numeric)::integer, 0),
+    max_heart_rate = COALESCE(round((gr.report_data ->> 'maxHeartRate')::numeric)::integer, 0),
+    start_time     = substring(gr.report_data ->> 'startTime' from '^\d{2}:\d{2}')::time,
+    end_time       = substring(gr.report_data ->> 'endTime' from '^\d{2}:\d{2}')::time,
+    -- 행 우선 순서, 칸당 1바이트(0~255), 빈 칸은 0
+    heatmap        = (
+        SELECT decode(string_agg(
+                   lpad(to_hex(LEAST(GREATEST(
+                       COALESCE(round((gr.report_data -> 'heatmap' -> r ->> c)::numeric)::integer, 0),
+                   0), 255)), 2, '0'),
+                   '' ORDER BY r, c), 'hex')
+        FROM generate_series(0, 15) AS r,
+             generate_series(0, 9) AS c
+    )
+WHERE gr.heatmap IS NULL
+  AND gr.report_data IS NOT NULL;
@@ -0,0 +1,16 @@
+-- 경기 기록 일괄 저장 준비
+-- 배포 전에 1회 실행 (Quarter 시퀀스 allocationSize = 50과 맞춰야 기동 시 불일치 예외가 나지 않음)
+
+-- 1. Quarter 시퀀스를 pooled 방식(50개 단위)으로 변경
+ALTER SEQUENCE quarter_sequence INCREMENT BY 50;
+
+-- 2. 같은 유저/쿼터 중복 기록 정리 (가장 먼저 저장된 기록만 유지)
+DELETE FROM game_report a
+USING game_report b
+WHERE a.user_id = b.user_id
+  AND a.quarter_id = b.quarter_id
+  AND a.report_id > b.report_id;
+
+-- 3. ON CONFLICT (user_id, quarter_id) DO NOTHING 에 필요한 유니크 제약
+ALTER TABLE game_report DROP CONSTRAINT IF EXISTS uk_game_report_user_quarter;
+ALTER TABLE game_report ADD CONSTRAINT uk_game_report_user_quarter UNIQUE (user_id, quarter_id);
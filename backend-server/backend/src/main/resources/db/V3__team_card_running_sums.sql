@@ -0,0 +1,32 @@
+-- 팀 카드 누적값(팀원 수, 능력치 합계) 컬럼 추가 및 채우기
+-- 배포 전에 1회 실행 (이후에는 팀원 변경/능력치 재계산 시 증분 갱신, 새벽 보정 작업으로 어긋남 정리)
+
+-- 1. 누적값 컬럼 추가
+ALTER TABLE team_card ADD COLUMN IF NOT EXISTS member_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE team_card ADD COLUMN IF NOT EXISTS sum_speed INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE team_card ADD COLUMN IF NOT EXISTS sum_stamina INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE team_card ADD COLUMN IF NOT EXISTS sum_attack INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE team_card ADD COLUMN IF NOT EXISTS sum_defense INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE team_card ADD COLUMN IF NOT EXISTS sum_recovery INTEGER DEFAULT 0 NOT NULL;
+
+-- 2. 현재 팀원 선수 카드 기준으로 누적값 채우기
+UPDATE team_card tc
+SET member_count = s.member_count,
+    sum_speed = s.sum_speed,
+    sum_stamina = s.sum_stamina,
+    sum_attack = s.sum_attack,
+    sum_defense = s.sum_defense,
+    sum_recovery = s.sum_recovery
+FROM (
+    SELECT tm.team_id,
+           COUNT(pc.card_id) AS member_count,
+           COALESCE(SUM(pc.speed), 0) AS sum_speed,
+           COALESCE(SUM(pc.stamina), 0) AS sum_stamina,
+           COALESCE(SUM(pc.attack), 0) AS sum_attack,
+           COALESCE(SUM(pc.defense), 0) AS sum_defense,
+           COALESCE(SUM(pc.recovery), 0) AS sum_recovery
+    FROM player_card pc
+    JOIN team_member tm ON pc.user_id = tm.user_id
+    GROUP BY tm.team_id
+) s
+WHERE tc.team_id = s.team_id;
@@ -0,0 +1,13 @@
+-- 좋아요 write-behind 반영 준비
+-- 배포 전에 1회 실행 (ON CONFLICT (highlight_id, liked_user_id) 업서트에 필요한 유니크 제약)
+
+-- 1. 같은 유저/하이라이트 중복 좋아요 정리 (가장 최근에 바뀐 행만 유지)
+DELETE FROM likes a
+USING likes b
+WHERE a.highlight_id = b.highlight_id
+  AND a.liked_user_id = b.liked_user_id
+  AND (COALESCE(a.updated_at, a.created_at), a.like_id) < (COALESCE(b.updated_at, b.created_at), b.like_id);
+
+-- 2. 유니크 제약
+ALTER TABLE likes DROP CONSTRAINT IF EXISTS uk_likes_highlight_user;
+ALTER TABLE likes ADD CONSTRAINT uk_likes_highlight_user UNIQUE (highlight_id, liked_user_id);
@@ -0,0 +1,4 @@
+-- 좋아요 누른 하이라이트 목록 키셋 페이징용 인덱스
+-- WHERE liked_user_id = ? AND is_liked ORDER BY created_at DESC, like_id DESC
+DROP INDEX IF EXISTS idx_likes_user_liked_at;
+CREATE INDEX idx_likes_user_liked_at ON likes (liked_user_id, created_at DESC, like_id DESC) WHERE is_liked;
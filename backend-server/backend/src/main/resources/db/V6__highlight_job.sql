@@ -0,0 +1,27 @@
+-- 하이라이트 자동 추출 비동기 작업
+-- 배포 전에 1회 실행 (ddl-auto로 테이블이 먼저 생겼으면 3번만 실행)
+
+-- 1. 작업 시퀀스 (HighlightJob allocationSize = 50과 맞춤)
+CREATE SEQUENCE IF NOT EXISTS highlight_job_sequence START WITH 1 INCREMENT BY 50;
+
+-- 2. 작업 테이블
+CREATE TABLE IF NOT EXISTS highlight_job (
+    job_id           BIGINT PRIMARY KEY,
+    video_id         INTEGER NOT NULL,
+    object_key       TEXT NOT NULL,
+    temporary_object BOOLEAN NOT NULL DEFAULT FALSE,
+    status           VARCHAR(255) NOT NULL,
+    attempts         INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP NOT NULL,
+    started_at       TIMESTAMP,
+    error_message    TEXT,
+    created_at       TIMESTAMP NOT NULL,
+    finished_at      TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_highlight_job_status ON highlight_job (status, next_attempt_at, job_id);
+
+-- 3. 영상 하나에 진행 중인 작업은 하나만 (동시에 들어온 중복 요청은 기존 작업으로 대체)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_highlight_job_active_video
+    ON highlight_job (video_id)
+    WHERE status IN ('PENDING', 'RUNNING');
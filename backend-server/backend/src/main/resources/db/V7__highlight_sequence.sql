@@ -0,0 +1,8 @@
+-- 하이라이트 전용 시퀀스 분리 (기존에는 Video와 video_seq를 같이 사용)
+-- 배포 전에 1회 실행 (Highlight 시퀀스 allocationSize = 50과 맞춰야 기동 시 불일치 예외가 나지 않음)
+
+-- 1. 50개 단위 pooled 시퀀스 생성
+CREATE SEQUENCE IF NOT EXISTS highlight_seq START WITH 1 INCREMENT BY 50;
+
+-- 2. 기존 하이라이트 ID 이후부터 발급 (다음 nextval 블록이 MAX + 1부터 시작)
+SELECT setval('highlight_seq', GREATEST(COALESCE(MAX(highlight_id), 0), 1)) FROM highlight;
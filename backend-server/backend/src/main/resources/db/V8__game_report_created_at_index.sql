@@ -0,0 +1,3 @@
+-- AI 리포트 사전 생성용 키셋 인덱스
+-- WHERE (created_at, report_id) > (?, ?) AND created_at < ? ORDER BY created_at, report_id
+CREATE INDEX IF NOT EXISTS idx_game_report_created_at ON game_report (created_at, report_id);
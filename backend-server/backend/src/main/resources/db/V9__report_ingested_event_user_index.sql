@@ -0,0 +1,3 @@
+-- 능력치 재계산 이벤트를 유저별로 가장 오래된 것만 가져가기 위한 인덱스
+-- NOT EXISTS (... WHERE user_id = ? AND status = 'PENDING' AND event_id < ?)
+CREATE INDEX IF NOT EXISTS idx_report_ingested_event_user ON report_ingested_event (user_id, event_id);
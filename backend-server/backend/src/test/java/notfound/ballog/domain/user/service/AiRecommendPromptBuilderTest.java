@@ -0,0 +1,199 @@
+package notfound.ballog.domain.user.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import notfound.ballog.common.utils.HeatmapCodec;
+import notfound.ballog.domain.quarter.dto.GameReportStatDto;
+import notfound.ballog.domain.user.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * AI 리포트 프롬프트 크기 측정 및 파생 지표 검증
+ * - 기록해 둔 경기 데이터(ai-recommend/recorded-reports.json)로 v1(원본 데이터) / v2(파생 지표) 프롬프트 크기 비교
+ * - OpenAIService가 붙이는 응답 JSON 구조 설명은 두 버전이 같으므로 제외하고 비교
+ * - 토큰 수는 추정치 (ASCII 4자당 1토큰, 한글 등 그 외 문자는 1자당 1토큰)
+ */
+class AiRecommendPromptBuilderTest {
+
+    private final AiRecommendPromptBuilder promptBuilder = new AiRecommendPromptBuilder();
+
+    @Test
+    void promptSizeOnRecordedReports() throws IOException {
+        List<GameReportStatDto> reports = recordedReports();
+        User user = User.builder().nickname("볼로그").birthDate(LocalDate.of(1998, 5, 1)).build();
+
+        String legacy = legacyPrompt(user, reports);
+        String compact = promptBuilder.build(user, reports);
+
+        int legacyTokens = estimateTokens(legacy);
+        int compactTokens = estimateTokens(compact);
+
+        assertThat(compactTokens)
+                .as("%d경기 프롬프트 토큰 - v1: %d, %s: %d", reports.size(), legacyTokens,
+                        AiRecommendPromptBuilder.TEMPLATE_VERSION, compactTokens)
+                .isLessThan(legacyTokens / 2);
+        assertThat(compact).contains(user.getNickname()).doesNotContain("%s").doesNotContain("%d");
+        assertThat(compact.lines().filter(line -> line.matches("\\d\\|.*"))).hasSize(reports.size());
+    }
+
+    @Test
+    void zoneSharesOfUniformHeatmap() {
+        byte[] heatmap = new byte[HeatmapCodec.SIZE];
+        Arrays.fill(heatmap, (byte) 1);
+
+        double[] shares = AiRecommendPromptBuilder.zoneShares(heatmap);
+        assertThat(shares[0]).isCloseTo(5 / 16.0, within(1e-9));
+        assertThat(shares[1]).isCloseTo(6 / 16.0, within(1e-9));
+        assertThat(shares[2]).isCloseTo(5 / 16.0, within(1e-9));
+        assertThat(shares[3]).isCloseTo(0.3, within(1e-9));
+        assertThat(shares[4]).isCloseTo(0.4, within(1e-9));
+        assertThat(shares[5]).isCloseTo(0.3, within(1e-9));
+
+        double[] position = AiRecommendPromptBuilder.centroidAndSpread(heatmap);
+        assertThat(position[0]).isCloseTo(0.5, within(1e-9));
+        assertThat(position[1]).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    void singleCellHeatmapHasNoSpread() {
+        byte[] heatmap = new byte[HeatmapCodec.SIZE];
+        heatmap[15 * HeatmapCodec.COLS] = 10;
+
+        double[] shares = AiRecommendPromptBuilder.zoneShares(heatmap);
+        assertThat(shares[2]).isEqualTo(1.0);
+        assertThat(shares[3]).isEqualTo(1.0);
+
+        double[] position = AiRecommendPromptBuilder.centroidAndSpread(heatmap);
+        assertThat(position[0]).isCloseTo(15.5 / 16, within(1e-9));
+        assertThat(position[1]).isCloseTo(0.05, within(1e-9));
+        assertThat(position[2]).isCloseTo(0, within(1e-9));
+        assertThat(position[3]).isCloseTo(0, within(1e-9));
+
+        assertThat(AiRecommendPromptBuilder.centroidAndSpread(new byte[HeatmapCodec.SIZE])).containsOnly(0.0);
+    }
+
+    @Test
+    void sprintRateAndHeartRateReserve() {
+        assertThat(AiRecommendPromptBuilder.durationMinutes(LocalTime.of(21, 36), LocalTime.of(21, 47))).isEqualTo(11.0);
+        assertThat(AiRecommendPromptBuilder.durationMinutes(LocalTime.of(23, 55), LocalTime.of(0, 5))).isEqualTo(10.0);
+        assertThat(AiRecommendPromptBuilder.durationMinutes(null, LocalTime.of(0, 5))).isNull();
+
+        // 25세: 208 - 0.7 * 25 = 190.5 -> 191
+        LocalDate today = LocalDate.of(2025, 6, 1);
+        assertThat(AiRecommendPromptBuilder.maxHeartRate(LocalDate.of(2000, 1, 1), List.of(), today)).isEqualTo(191);
+        assertThat(AiRecommendPromptBuilder.maxHeartRate(null, List.of(), today))
+                .isEqualTo(AiRecommendPromptBuilder.DEFAULT_MAX_HEART_RATE);
+        assertThat(AiRecommendPromptBuilder.maxHeartRate(null,
+                List.of(GameReportStatDto.builder().maxHeartRate(201).build()), today)).isEqualTo(201);
+
+        assertThat(AiRecommendPromptBuilder.heartRateReserve(125, 190)).isCloseTo(0.5, within(1e-9));
+        assertThat(AiRecommendPromptBuilder.heartRateReserve(null, 190)).isNull();
+
+        GameReportStatDto report = GameReportStatDto.builder()
+                .sprint(3)
+                .startTime(LocalTime.of(21, 0))
+                .endTime(LocalTime.of(21, 12))
+                .avgHeartRate(125)
+                .build();
+        assertThat(AiRecommendPromptBuilder.featureRow(report, 190)).startsWith("12|-|-|-|3|0.25|0.5|-|");
+    }
+
+    private static List<GameReportStatDto> recordedReports() throws IOException {
+        try (InputStream in = AiRecommendPromptBuilderTest.class.getResourceAsStream("/ai-recommend/recorded-reports.json")) {
+            List<Map<String, Object>> rows = new ObjectMapper().readValue(in, new TypeReference<>() {});
+
+            List<GameReportStatDto> reports = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                reports.add(GameReportStatDto.builder()
+                        .reportId((Integer) row.get("reportId"))
+                        .startTime(LocalTime.parse((String) row.get("startTime")))
+                        .endTime(LocalTime.parse((String) row.get("endTime")))
+                        .sprint((Integer) row.get("sprint"))
+                        .distance(((Number) row.get("distance")).doubleValue())
+                        .avgSpeed(((Number) row.get("avgSpeed")).doubleValue())
+                        .maxSpeed(((Number) row.get("maxSpeed")).doubleValue())
+                        .avgHeartRate((Integer) row.get("avgHeartRate"))
+                        .maxHeartRate((Integer) row.get("maxHeartRate"))
+                        .heatmap(HeatmapCodec.encode(row.get("heatmap")))
+                        .build());
+            }
+            return reports;
+        }
+    }
+
+    private static int estimateTokens(String text) {
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    // v1 프롬프트 (경기 데이터 원본과 예시 경기 원본을 그대로 넣던 형식)
+    private static String legacyPrompt(User user, List<GameReportStatDto> reports) {
+        List<Map<String, Object>> gameDataList = reports.stream().map(GameReportStatDto::toPromptData).toList();
+
+        return "[System] \n" +
+                """
+                    당신은 풋살 분석 전문가입니다.
+                    GPS 히트맵·스프린트 횟수·평균 속도·최고 속도·심박수 데이터를 분석해 선수의 플레이 스타일을 분석하고 발전 방향을 제시합니다.
+                    풋살 동호회 선수의 일반적인 경기 데이터는 다음과 같습니다
+                """ +
+                """
+                    {
+                        "sprint": 3,
+                        "endTime": "21:47",
+                        "heatmap": [[4, 2, 2, 4, 2, 2, 0, 8, 10, 8], [4, 2, 2, 6, 6, 4, 2, 0, 8, 0], [2, 2, 6, 8, 8, 6, 2, 0, 0, 0], [2, 4, 6, 8, 8, 6, 2, 0, 0, 0], [4, 6, 8, 8, 10, 8, 2, 0, 0, 0], [4, 4, 6, 8, 10, 8, 6, 0, 0, 0], [2, 6, 8, 10, 10, 8, 6, 4, 0, 0], [4, 4, 6, 8, 8, 6, 4, 2, 0, 0], [2, 4, 6, 6, 8, 6, 6, 4, 0, 0], [0, 4, 6, 6, 8, 6, 4, 2, 0, 0], [2, 4, 4, 2, 6, 4, 2, 2, 0, 0], [4, 6, 6, 4, 2, 2, 2, 2, 0, 0], [2, 4, 4, 2, 4, 2, 0, 2, 0, 0], [0, 2, 2, 0, 2, 2, 2, 0, 0, 0], [0, 2, 0, 0, 0, 0, 2, 2, 0, 0], [0, 0, 0, 0, 0, 0, 0, 2, 0, 0]],
+                        "avgSpeed": 2.5013624668121337,
+                        "calories": 115,
+                        "distance": 0.4587200012207031,
+                        "maxSpeed": 10.321200370788574,
+                        "startTime": "21:36",
+                        "avgHeartRate": 151,
+                        "maxHeartRate": 191
+                    }
+                """ +
+                """
+                    각 데이터의 heatmap은 경기 중 유저가 어디에 얼마나 머물렀는지 보여주는 히트맵, sprint는 스프린트 횟수, avgSpeed는 평균 속도(km/h), maxSpeed는 최고 속도(km/h),
+                    distance는 총 이동 거리(m), avgHeartRate는 평균 심박수, maxHeartRate는 최고 심박수입니다.
+                """ +
+                "[User] \n" +
+                "유저 이름은 " + user.getNickname() + " 입니다." +
+                "다음은 풋살 경기에서 얻은 5개의 게임 데이터입니다:\n\n" + gameDataList +
+                """
+                    \n
+                    처음에 제공해준 풋살 동호회 선수의 일반적인 경기 데이터를 기준으로 유저의 경기 데이터를 분석해주세요.
+                    분석 시 아래 4가지 데이터를 응답 JSON 구조에 맞게 작성해주세요.
+                    1. 활동량 및 포지셔닝 분석 결과(히트맵 데이터 및 총 이동거리 데이터 활용)
+                    2. 스프린트 횟수 분석 결과
+                    3. 평균/최고 속도 분석 결과
+                    4. 체력 분석 결과(평균 심박수, 최고 심박수 데이터 활용)
+                """ +
+                """
+                    그리고 이 데이터들을 바탕으로 유사한 스타일을 가지고 있고 롤모델로 추천할 만한 프로 축구 선수를 추천해주세요.
+                    추천한 프로 축구 선수 이름을 네이버에 검색해서 실제 선수명이 맞는지 먼저 확인하세요.
+                    검색 결과 실제 선수명이 맞다면 그 선수명을 사용하고 아니라면 네이버가 수정해준 선수명을 사용하세요.
+                    해당 축구 선수가 어떤 플레이 스타일인지 알려주세요.
+                    유저의 어떤 데이터 때문에 해당 축구 선수를 추천했는지 알려주세요.
+                    이 축구 선수처럼 하기 위해선 어떤 점을 보강하면 좋을지 알려주세요.
+                """;
+    }
+
+}
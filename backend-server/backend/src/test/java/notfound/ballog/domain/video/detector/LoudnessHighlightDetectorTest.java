@@ -0,0 +1,96 @@
+package notfound.ballog.domain.video.detector;
+
+import notfound.ballog.domain.video.dto.HighlightExtractionDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 음량 기반 하이라이트 추출 검증 (합성 PCM)
+ * - 조용한 잡음 120초 중 60초부터 3초 동안 큰 소리를 넣고 구간 경계 확인
+ * - lookback이 영상 길이보다 길면 스트리밍 분석 결과가 전체 분석 결과와 같은지 확인
+ */
+class LoudnessHighlightDetectorTest {
+
+    private static final PcmFormat FORMAT = PcmFormat.signed16(8_000, 1);
+
+    private static final int DURATION_SECONDS = 120;
+
+    private static final int BURST_START_SECONDS = 60;
+
+    private static final int BURST_SECONDS = 3;
+
+    // 영상 길이보다 긴 lookback (모든 프레임을 다 받은 뒤 판정)
+    private static final int UNBOUNDED_LOOKBACK_FRAMES = DURATION_SECONDS * 1000 / LoudnessHighlightDetector.FRAME_MS * 2;
+
+    private final LoudnessHighlightDetector detector = new LoudnessHighlightDetector("ffmpeg", 300_000);
+
+    @Test
+    void loudBurstBecomesOneSegment() throws IOException {
+        List<HighlightExtractionDto> highlightList = detector.detect(PcmStream.raw(new ByteArrayInputStream(burstPcm()), FORMAT));
+
+        // 이동 평균 창(앞 15, 뒤 14프레임)에 큰 소리 프레임이 충분히 들어온 첫 프레임(59.1초)이 중심 -> ±10초
+        assertThat(highlightList)
+                .extracting(HighlightExtractionDto::getHighlightName, HighlightExtractionDto::getStartTime, HighlightExtractionDto::getEndTime)
+                .containsExactly(tuple("하이라이트 1", LocalTime.of(0, 0, 49), LocalTime.of(0, 1, 9)));
+    }
+
+    @Test
+    void silenceHasNoSegment() throws IOException {
+        byte[] pcm = new byte[DURATION_SECONDS * FORMAT.getSampleRate() * FORMAT.getBytesPerSample()];
+
+        assertThat(detector.detect(PcmStream.raw(new ByteArrayInputStream(pcm), FORMAT))).isEmpty();
+        assertThat(stream(pcm, UNBOUNDED_LOOKBACK_FRAMES, 4096)).isEmpty();
+    }
+
+    @Test
+    void streamingWithUnboundedLookbackMatchesBatch() throws IOException {
+        byte[] pcm = burstPcm();
+        List<HighlightExtractionDto> batch = detector.detect(PcmStream.raw(new ByteArrayInputStream(pcm), FORMAT));
+
+        // 청크 크기를 홀수로 해서 샘플 경계에 걸친 바이트도 확인
+        for (int chunkSize : new int[]{1, 777, 64 * 1024}) {
+            assertThat(stream(pcm, UNBOUNDED_LOOKBACK_FRAMES, chunkSize))
+                    .extracting(HighlightExtractionDto::getHighlightName, HighlightExtractionDto::getStartTime, HighlightExtractionDto::getEndTime)
+                    .containsExactlyElementsOf(batch.stream()
+                            .map(highlight -> tuple(highlight.getHighlightName(), highlight.getStartTime(), highlight.getEndTime()))
+                            .toList());
+        }
+    }
+
+    private static List<HighlightExtractionDto> stream(byte[] pcm, int lookbackFrames, int chunkSize) {
+        StreamingLoudnessAnalyzer analyzer = new StreamingLoudnessAnalyzer(FORMAT, lookbackFrames);
+        List<HighlightExtractionDto> highlightList = new ArrayList<>();
+        for (int offset = 0; offset < pcm.length; offset += chunkSize) {
+            highlightList.addAll(analyzer.accept(pcm, offset, Math.min(chunkSize, pcm.length - offset)));
+        }
+        highlightList.addAll(analyzer.finish());
+        return highlightList;
+    }
+
+    // 16비트 mono: 진폭 0.01 잡음, BURST_START_SECONDS부터 BURST_SECONDS 동안 진폭 0.5 사인파 440Hz
+    private static byte[] burstPcm() {
+        int sampleRate = FORMAT.getSampleRate();
+        byte[] pcm = new byte[DURATION_SECONDS * sampleRate * 2];
+        Random random = new Random(42);
+        for (int i = 0; i < DURATION_SECONDS * sampleRate; i++) {
+            double seconds = (double) i / sampleRate;
+            double sample = seconds >= BURST_START_SECONDS && seconds < BURST_START_SECONDS + BURST_SECONDS
+                    ? 0.5 * Math.sin(2 * Math.PI * 440 * seconds)
+                    : 0.01 * (random.nextDouble() * 2 - 1);
+            short value = (short) Math.round(sample * Short.MAX_VALUE);
+            pcm[i * 2] = (byte) value;
+            pcm[i * 2 + 1] = (byte) (value >> 8);
+        }
+        return pcm;
+    }
+
+}
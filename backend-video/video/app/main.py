@@ -1,6 +1,10 @@
 import os
 import shutil
+import uuid
+import urllib.request
 from fastapi import FastAPI, File, UploadFile, Form, HTTPException
+from fastapi.concurrency import run_in_threadpool
+from app.request import ExtractUrlRequest
 from app.response import HighlightItem, HighlightResult
 from app.service import analyze_audio_file
 
@@ -19,7 +23,7 @@ async def extract_highlight(
     os.makedirs(tmp_dir, exist_ok=True)
 
     # 2. 파일 저장
-    audio_path = os.path.join(tmp_dir, file.filename)
+    audio_path = os.path.join(tmp_dir, f"{uuid.uuid4()}-{os.path.basename(file.filename)}")
     try:
         with open(audio_path, "wb") as buffer:
             shutil.copyfileobj(file.file, buffer)
@@ -43,3 +47,38 @@ async def extract_highlight(
     response = HighlightResult(highlightList=highlightList)
 
     return response
+
+
+def _download(url: str, path: str):
+    # 1MB 단위로 나눠서 디스크에 기록 (영상 전체를 메모리에 올리지 않음)
+    with urllib.request.urlopen(url, timeout=30) as source, open(path, "wb") as buffer:
+        shutil.copyfileobj(source, buffer, 1024 * 1024)
+
+
+@app.post("/api/v1/videos/highlight/extract-url")
+async def extract_highlight_from_url(request: ExtractUrlRequest):
+    # 1. 임시 폴더 생성
+    tmp_dir = os.path.join(os.path.dirname(__file__), "../temp")
+    os.makedirs(tmp_dir, exist_ok=True)
+
+    # 2. S3 presigned url에서 파일 내려받기
+    audio_path = os.path.join(tmp_dir, f"{uuid.uuid4()}-{os.path.basename(request.fileName)}")
+    try:
+        try:
+            await run_in_threadpool(_download, request.url, audio_path)
+        except Exception as e:
+            raise HTTPException(status_code=500, detail=f"파일 다운로드 실패: {str(e)}")
+
+        # 3. 하이라이트 추출
+        try:
+            result = await analyze_audio_file(audio_path)
+        except Exception as e:
+            raise HTTPException(status_code=500, detail=f"오디오 분석 실패: {str(e)}")
+    finally:
+        # 임시 파일 삭제
+        if os.path.exists(audio_path):
+            os.remove(audio_path)
+
+    # 4. 응답 생성
+    highlightList = [HighlightItem(**item) for item in result]
+    return HighlightResult(highlightList=highlightList)
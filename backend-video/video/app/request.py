@@ -4,4 +4,7 @@ from fastapi import Form, File, UploadFile
 class HighlightRequest(BaseModel):
     video_id: int = Form(...)
     audioFile: UploadFile = File(...)
-    
\ No newline at end of file
+    
+class ExtractUrlRequest(BaseModel):
+    url: str
+    fileName: str
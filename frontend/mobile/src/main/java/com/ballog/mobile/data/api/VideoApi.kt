@@ -58,12 +58,19 @@ interface VideoApi {
         @Path("highlightId") highlightId: Int
     ): Response<ApiResponse<Unit>>
 
-    // 8. 하이라이트 자동 추출
+    // 8. 하이라이트 자동 추출 작업 등록
     @Multipart
     @POST("v1/videos/highlight/auto")
     suspend fun extractHighlights(
         @Header("Authorization") token: String,
         @Part file: MultipartBody.Part,
         @Part("videoId") videoId: Int
-    ): Response<ApiResponse<HighlightExtractionResponse>>
+    ): Response<ApiResponse<HighlightJobResponse>>
+
+    // 9. 하이라이트 자동 추출 작업 상태 조회
+    @GET("v1/videos/highlight/jobs/{jobId}")
+    suspend fun getHighlightJob(
+        @Header("Authorization") token: String,
+        @Path("jobId") jobId: Long
+    ): Response<ApiResponse<HighlightJobResponse>>
 }
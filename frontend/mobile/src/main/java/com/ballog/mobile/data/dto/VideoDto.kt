@@ -112,6 +112,12 @@ data class HighlightExtractionRequest(
     val videoUrl: String
 )
 
-data class HighlightExtractionResponse(
-    val highlightList: List<HighlightDto>
+// 하이라이트 자동 추출 작업 (status: PENDING, RUNNING, SUCCEEDED, FAILED)
+data class HighlightJobResponse(
+    val jobId: Long,
+    val videoId: Int,
+    val status: String,
+    val attempts: Int,
+    val errorMessage: String?,
+    val highlightList: List<HighlightDto>?  // SUCCEEDED일 때만 채워짐
 )
@@ -13,6 +13,7 @@ import com.ballog.mobile.ui.video.VideoUiState
 import com.ballog.mobile.util.AudioUtils
 import com.ballog.mobile.util.S3Utils
 import com.google.gson.Gson
+import kotlinx.coroutines.delay
 import kotlinx.coroutines.flow.*
 import kotlinx.coroutines.launch
 import java.io.File
@@ -227,9 +228,21 @@ class VideoViewModel(application: Application) : AndroidViewModel(application) {
                         videoId = videoId
                     )
 
-                    if (extractionResponse.isSuccessful && extractionResponse.body()?.isSuccess == true) {
+                    val submittedJob = extractionResponse.body()?.result
+                    if (extractionResponse.isSuccessful && extractionResponse.body()?.isSuccess == true && submittedJob != null) {
+                        Log.d("VideoViewModel", "📨 하이라이트 추출 작업 등록: jobId=${submittedJob.jobId}")
+
+                        // 추출은 서버에서 비동기로 진행되므로 작업이 끝날 때까지 상태 조회
+                        val finishedJob = awaitHighlightJob(token, submittedJob)
+                        if (finishedJob == null || finishedJob.status != HIGHLIGHT_JOB_SUCCEEDED) {
+                            Log.e("VideoViewModel", "❌ 하이라이트 추출 실패: status=${finishedJob?.status}, error=${finishedJob?.errorMessage}")
+                            _error.value = "하이라이트 추출에 실패했습니다."
+                            _isExtractingHighlights.value = false
+                            return@launch
+                        }
+
                         Log.d("VideoViewModel", "✅ 하이라이트 추출 성공")
-                        val highlights = extractionResponse.body()?.result?.highlightList.orEmpty()
+                        val highlights = finishedJob.highlightList.orEmpty()
 
                         Log.d("VideoViewModel", "📋 추출된 하이라이트 수: ${highlights.size}")
 
@@ -320,6 +333,30 @@ class VideoViewModel(application: Application) : AndroidViewModel(application) {
         }
     }
 
+    /**
+     * 하이라이트 추출 작업이 끝날 때까지 상태 조회
+     * - SUCCEEDED/FAILED가 되면 그 작업을 반환, 조회 실패나 시간 초과면 null
+     */
+    private suspend fun awaitHighlightJob(token: String, job: HighlightJobResponse): HighlightJobResponse? {
+        var current = job
+        val deadline = System.currentTimeMillis() + HIGHLIGHT_JOB_TIMEOUT_MS
+        while (current.status == HIGHLIGHT_JOB_PENDING || current.status == HIGHLIGHT_JOB_RUNNING) {
+            if (System.currentTimeMillis() > deadline) {
+                Log.e("VideoViewModel", "⏰ 하이라이트 추출 작업 대기 시간 초과: jobId=${job.jobId}")
+                return null
+            }
+            delay(HIGHLIGHT_JOB_POLL_INTERVAL_MS)
+
+            val response = videoApi.getHighlightJob(token = token, jobId = job.jobId)
+            current = response.body()?.result?.takeIf { response.isSuccessful } ?: run {
+                Log.e("VideoViewModel", "⚠️ 하이라이트 추출 작업 조회 실패: ${response.code()}")
+                return null
+            }
+            Log.d("VideoViewModel", "🔄 하이라이트 추출 작업 상태: ${current.status}")
+        }
+        return current
+    }
+
     private fun startS3UploadInBackground(
         presignedUrl: String,
         file: File,
@@ -866,4 +903,15 @@ class VideoViewModel(application: Application) : AndroidViewModel(application) {
             _isSeekingFromHighlight.value = false
         }
     }
+
+    companion object {
+        private const val HIGHLIGHT_JOB_PENDING = "PENDING"
+        private const val HIGHLIGHT_JOB_RUNNING = "RUNNING"
+        private const val HIGHLIGHT_JOB_SUCCEEDED = "SUCCEEDED"
+
+        private const val HIGHLIGHT_JOB_POLL_INTERVAL_MS = 2_000L
+
+        // 서버 재시도(backoff)까지 고려한 최대 대기 시간
+        private const val HIGHLIGHT_JOB_TIMEOUT_MS = 10 * 60 * 1_000L
+    }
 }